@@ -1,24 +1,31 @@
 package com.orbsec.organizationservice;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
+@EnableScheduling
 public class OrganizationServiceApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(OrganizationServiceApplication.class, args);
 	}
 
+	// Events are keyed by organization id and relayed by one replica at a time (see OutboxRelay), so per-organization
+	// order holds for any partition count.
+	// Raising the count remaps keys to partitions; only in-flight ordering across the change is affected.
 	@Bean
-	NewTopic organizationTopic() {
-		return TopicBuilder.name("organization_events").partitions(1).replicas(1).build();
+	NewTopic organizationTopic(@Value("${organization.events.partitions:6}") int partitions,
+							   @Value("${organization.events.replicas:1}") int replicas) {
+		return TopicBuilder.name("organization_events").partitions(partitions).replicas(replicas).build();
 	}
 }
@@ -0,0 +1,126 @@
+package com.orbsec.organizationservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orbsec.organizationservice.model.LicenseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of licensing-service responses per organization and caller credential.
+ * An entry is FRESH for ttl, then STALE for the stale-while-revalidate window (served while a background refresh
+ * runs), then EXPIRED (a normal remote call is made). Entries are retained for stale-if-error so the circuit-breaker
+ * fallback can still answer with the last known-good list.
+ * The licensing-service is what authorizes a caller, so entries are keyed by organization plus a SHA-256 digest of the
+ * caller's Authorization header: a list is only ever served back to the credential it was fetched with, and raw
+ * tokens are not kept in memory.
+ */
+@Component
+public class LicenseCache {
+
+    public enum State {
+        FRESH,
+        STALE,
+        EXPIRED
+    }
+
+    public static final class Entry {
+        private final List<LicenseDTO> licenses;
+        private final long fetchedAtNanos;
+
+        private Entry(List<LicenseDTO> licenses, long fetchedAtNanos) {
+            this.licenses = licenses;
+            this.fetchedAtNanos = fetchedAtNanos;
+        }
+
+        public List<LicenseDTO> getLicenses() {
+            return licenses;
+        }
+    }
+
+    private final Cache<String, Entry> cache;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final long ttlNanos;
+    private final long staleWhileRevalidateNanos;
+    private final Counter staleServed;
+
+    @Autowired
+    public LicenseCache(@Value("${organization.license-cache.maximum-size:5000}") long maximumSize,
+                        @Value("${organization.license-cache.ttl-seconds:60}") long ttlSeconds,
+                        @Value("${organization.license-cache.stale-while-revalidate-seconds:300}") long staleWhileRevalidateSeconds,
+                        @Value("${organization.license-cache.stale-if-error-seconds:3600}") long staleIfErrorSeconds,
+                        MeterRegistry meterRegistry) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.staleWhileRevalidateNanos = Duration.ofSeconds(staleWhileRevalidateSeconds).toNanos();
+        long retentionSeconds = Math.max(staleIfErrorSeconds, ttlSeconds + staleWhileRevalidateSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(retentionSeconds))
+                .recordStats()
+                .build();
+        this.staleServed = Counter.builder("organization.license-cache.stale-served").register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "licenses");
+    }
+
+    public Entry get(String organizationId, String authToken) {
+        return cache.getIfPresent(key(organizationId, authToken));
+    }
+
+    public State stateOf(Entry entry) {
+        long age = System.nanoTime() - entry.fetchedAtNanos;
+        if (age < ttlNanos) {
+            return State.FRESH;
+        }
+        if (age < ttlNanos + staleWhileRevalidateNanos) {
+            staleServed.increment();
+            return State.STALE;
+        }
+        return State.EXPIRED;
+    }
+
+    public void put(String organizationId, String authToken, List<LicenseDTO> licenses) {
+        var snapshot = licenses == null ? List.<LicenseDTO>of() : Collections.unmodifiableList(new ArrayList<>(licenses));
+        cache.put(key(organizationId, authToken), new Entry(snapshot, System.nanoTime()));
+    }
+
+    /** Drops the entries of every caller for this organization. */
+    public void evict(String organizationId) {
+        var prefix = organizationId + '|';
+        cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /** Returns false if a refresh for this organization and caller is already running. */
+    public boolean beginRefresh(String organizationId, String authToken) {
+        return refreshing.add(key(organizationId, authToken));
+    }
+
+    public void endRefresh(String organizationId, String authToken) {
+        refreshing.remove(key(organizationId, authToken));
+    }
+
+    private static String key(String organizationId, String authToken) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest((authToken == null ? "" : authToken).getBytes(StandardCharsets.UTF_8));
+            return organizationId + '|' + Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
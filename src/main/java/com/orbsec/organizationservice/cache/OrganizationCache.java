@@ -0,0 +1,56 @@
+package com.orbsec.organizationservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, in-process read-through cache for organization lookups.
+ * Caffeine's W-TinyLFU policy keeps hot tenants resident; entries also expire after a fixed TTL as a safety net
+ * in case an invalidation event is missed. DTOs are mutable, so values are copied on the way in and out.
+ */
+@Slf4j
+@Component
+public class OrganizationCache {
+
+    private final Cache<String, OrganizationDto> cache;
+
+    @Autowired
+    public OrganizationCache(@Value("${organization.cache.maximum-size:10000}") long maximumSize,
+                             @Value("${organization.cache.ttl-seconds:300}") long ttlSeconds,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "organizations");
+    }
+
+    public OrganizationDto get(String organizationId) {
+        var cached = cache.getIfPresent(organizationId);
+        return cached == null ? null : copy(cached);
+    }
+
+    public void put(OrganizationDto organizationDto) {
+        cache.put(organizationDto.getId(), copy(organizationDto));
+    }
+
+    public void evict(String organizationId) {
+        log.info("Evicting cached organization record for id: {}", organizationId);
+        cache.invalidate(organizationId);
+    }
+
+    private static OrganizationDto copy(OrganizationDto source) {
+        return new OrganizationDto(source.getId(), source.getName(), source.getContactName(), source.getContactEmail(), source.getContactPhone(),
+                source.getVersion(), source.getLastModified());
+    }
+}
@@ -0,0 +1,286 @@
+package com.orbsec.organizationservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.model.OrganizationChange;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Rejects lookups for organization ids that are known not to exist, without loading the record.
+ * A Bloom filter over every id (built once the application is ready, then fed by creations) rules out ids that
+ * were never created; a short-lived negative cache covers ids that were looked up and missed, including deleted
+ * ones, which a Bloom filter cannot forget. Until the first build completes every id is treated as possibly present.
+ * The filter only knows ids up to the change-log sequence read when it was built, plus creations it has caught up
+ * with since. Ids created on this replica are added as soon as their transaction commits, so they can be read back
+ * at once; ids created on other replicas reach it through organization_changes, and are rejected for at most one
+ * catch-up interval. A negative answer triggers a catch-up only when the filter has not caught up within that
+ * interval, and is then remembered in the negative cache, so repeated or scanning lookups of unknown ids do not
+ * each cost a change-log query.
+ */
+@Slf4j
+@Component
+public class UnknownOrganizationFilter {
+
+    private static final int CATCH_UP_PAGE_SIZE = 1000;
+
+    private final OrganizationRepository repository;
+    private final OrganizationChangeRepository changeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<String, Boolean> negativeCache;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long catchUpIntervalNanos;
+    private final Counter rejectedByFilter;
+    private final Counter rejectedByNegativeCache;
+    private final AtomicLong indexedIds = new AtomicLong();
+
+    // A lock rather than a monitor: it is held across a database read, which must not pin a virtual thread
+    private final ReentrantLock catchUpRunner = new ReentrantLock();
+
+    private volatile BloomFilter active;
+    private volatile BloomFilter building;
+    // Change-log sequence the active filter has caught up to
+    private long watermark;
+    // When the last successful catch-up (or the build) started reading the change log
+    private volatile long caughtUpAtNanos;
+    // Catch-up that callers can still join: it has not started reading yet
+    private CompletableFuture<Boolean> pendingCatchUp;
+
+    @Autowired
+    public UnknownOrganizationFilter(OrganizationRepository repository, OrganizationChangeRepository changeRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${organization.id-filter.expected-insertions:100000}") long expectedInsertions,
+                                     @Value("${organization.id-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                     @Value("${organization.id-filter.catch-up-interval-ms:1000}") long catchUpIntervalMs,
+                                     @Value("${organization.negative-cache.maximum-size:100000}") long negativeCacheSize,
+                                     @Value("${organization.negative-cache.ttl-seconds:30}") long negativeCacheTtlSeconds,
+                                     MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.changeRepository = changeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.catchUpIntervalNanos = TimeUnit.MILLISECONDS.toNanos(catchUpIntervalMs);
+        this.negativeCache = Caffeine.newBuilder()
+                .maximumSize(negativeCacheSize)
+                .expireAfterWrite(negativeCacheTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, negativeCache, "unknownOrganizations");
+        this.rejectedByFilter = Counter.builder("organization.unknown-id.rejected").tag("source", "bloom-filter").register(meterRegistry);
+        this.rejectedByNegativeCache = Counter.builder("organization.unknown-id.rejected").tag("source", "negative-cache").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long existing = readOnlyTransaction.execute(status -> repository.count());
+        var next = new BloomFilter(Math.max(expectedInsertions, existing * 2), falsePositiveRate);
+        // From here on, creations committed before the ids are read show up in the stream, later ones are added directly
+        synchronized (this) {
+            building = next;
+        }
+        try {
+            var snapshot = new AtomicLong();
+            long startedAt = System.nanoTime();
+            long count = readOnlyTransaction.execute(status -> {
+                // Read before the ids: every change at or below it has committed, so its id is in the stream
+                snapshot.set(changeRepository.findLatestSequence());
+                var indexed = new AtomicLong();
+                try (var ids = repository.streamAllIds()) {
+                    ids.forEach(id -> {
+                        next.add(id);
+                        indexed.incrementAndGet();
+                    });
+                }
+                return indexed.get();
+            });
+            synchronized (this) {
+                active = next;
+                watermark = snapshot.get();
+                caughtUpAtNanos = startedAt;
+                indexedIds.set(count);
+            }
+            log.info("Indexed {} organization ids for unknown-id filtering", count);
+        } catch (RuntimeException e) {
+            log.warn("Failed to build the unknown organization id filter; lookups will not be filtered: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                building = null;
+            }
+        }
+    }
+
+    public boolean isKnownAbsent(String organizationId) {
+        if (negativeCache.getIfPresent(organizationId) != null) {
+            rejectedByNegativeCache.increment();
+            return true;
+        }
+        if (mightExist(organizationId)) {
+            return false;
+        }
+        // The id may have been created on another replica after the filter last caught up
+        if (!isRecentlyCaughtUp() && (!catchUp() || mightExist(organizationId))) {
+            return false;
+        }
+        rejectedByFilter.increment();
+        negativeCache.put(organizationId, Boolean.TRUE);
+        return true;
+    }
+
+    private boolean isRecentlyCaughtUp() {
+        return System.nanoTime() - caughtUpAtNanos < catchUpIntervalNanos;
+    }
+
+    // Bounds how long an id created on another replica is rejected, and keeps the on-demand catch-ups short
+    @Scheduled(fixedDelayString = "${organization.id-filter.catch-up-interval-ms:1000}")
+    public void catchUpWithChangeLog() {
+        if (active != null) {
+            catchUp();
+        }
+    }
+
+    /**
+     * Adds the ids created since the watermark and reports whether the filter is now current.
+     * A caller only joins a catch-up that has not started reading, so everything committed before the call is
+     * included; concurrent callers share one read in progress and one queued behind it.
+     */
+    boolean catchUp() {
+        CompletableFuture<Boolean> catchUp;
+        boolean leader;
+        synchronized (this) {
+            leader = pendingCatchUp == null;
+            if (leader) {
+                pendingCatchUp = new CompletableFuture<>();
+            }
+            catchUp = pendingCatchUp;
+        }
+        if (leader) {
+            catchUpRunner.lock();
+            try {
+                synchronized (this) {
+                    pendingCatchUp = null;
+                }
+                catchUp.complete(readCreations());
+            } catch (RuntimeException | Error e) {
+                catchUp.complete(false);
+                throw e;
+            } finally {
+                catchUpRunner.unlock();
+            }
+        }
+        return catchUp.join();
+    }
+
+    private boolean readCreations() {
+        BloomFilter filter;
+        long from;
+        synchronized (this) {
+            filter = active;
+            from = watermark;
+        }
+        if (filter == null) {
+            return false;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            while (true) {
+                long after = from;
+                List<OrganizationChange> changes = readOnlyTransaction.execute(status ->
+                        changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(after, PageRequest.of(0, CATCH_UP_PAGE_SIZE)));
+                if (changes == null || changes.isEmpty()) {
+                    caughtUpAtNanos = startedAt;
+                    return true;
+                }
+                synchronized (this) {
+                    // Rebuilt meanwhile: the new filter has its own watermark
+                    if (active != filter) {
+                        return false;
+                    }
+                    for (OrganizationChange change : changes) {
+                        if (change.getChangeType() == ChangeType.CREATION) {
+                            negativeCache.invalidate(change.getOrganizationId());
+                            if (!filter.mightContain(change.getOrganizationId())) {
+                                filter.add(change.getOrganizationId());
+                                indexedIds.incrementAndGet();
+                            }
+                        }
+                    }
+                    from = changes.get(changes.size() - 1).getSequence();
+                    watermark = from;
+                }
+                if (changes.size() < CATCH_UP_PAGE_SIZE) {
+                    caughtUpAtNanos = startedAt;
+                    return true;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to catch up the unknown organization id filter with the change log: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean mightExist(String organizationId) {
+        var filter = active;
+        return filter == null || filter.mightContain(organizationId);
+    }
+
+    public void recordMiss(String organizationId) {
+        negativeCache.put(organizationId, Boolean.TRUE);
+    }
+
+    /**
+     * Registers a new id. Inside a transaction this waits for the commit, so a filter rebuild running concurrently
+     * either reads the committed row or receives the id directly, and never ends up without it.
+     */
+    public void recordCreated(String organizationId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addCreated(organizationId);
+                }
+            });
+        } else {
+            addCreated(organizationId);
+        }
+    }
+
+    private synchronized void addCreated(String organizationId) {
+        negativeCache.invalidate(organizationId);
+        if (active != null) {
+            active.add(organizationId);
+            indexedIds.incrementAndGet();
+        }
+        if (building != null) {
+            building.add(organizationId);
+        }
+    }
+
+    long indexedIds() {
+        return indexedIds.get();
+    }
+}
@@ -1,18 +1,41 @@
 package com.orbsec.organizationservice.controller;
 
 import com.orbsec.organizationservice.exceptions.InvalidOrganizationRecord;
+import com.orbsec.organizationservice.exceptions.MissingOrganizationException;
+import com.orbsec.organizationservice.exceptions.StaleOrganizationException;
+import com.orbsec.organizationservice.model.BatchItemResult;
 import com.orbsec.organizationservice.model.LicenseDTO;
+import com.orbsec.organizationservice.model.LicenseLookupResult;
+import com.orbsec.organizationservice.model.OrganizationChangePage;
+import com.orbsec.organizationservice.model.OrganizationDetails;
 import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.model.OrganizationPage;
+import com.orbsec.organizationservice.service.LicenseBulkService;
+import com.orbsec.organizationservice.service.OrganizationBatchService;
+import com.orbsec.organizationservice.service.OrganizationChangeService;
+import com.orbsec.organizationservice.service.OrganizationDetailsService;
+import com.orbsec.organizationservice.service.OrganizationExportService;
 import com.orbsec.organizationservice.service.OrganizationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RestController
@@ -20,35 +43,114 @@ import java.util.List;
 public class OrganizationController {
 
     private final OrganizationService service;
+    private final OrganizationExportService exportService;
+    private final OrganizationBatchService batchService;
+    private final OrganizationDetailsService detailsService;
+    private final LicenseBulkService licenseBulkService;
+    private final OrganizationChangeService changeService;
+    private final long asyncRequestTimeoutMs;
+    private final long exportTimeoutMs;
 
     @Autowired
-    public OrganizationController(OrganizationService service) {
+    public OrganizationController(OrganizationService service, OrganizationExportService exportService, OrganizationBatchService batchService,
+                                  OrganizationDetailsService detailsService, LicenseBulkService licenseBulkService,
+                                  OrganizationChangeService changeService,
+                                  @Value("${organization.licenses.async-timeout-ms:10000}") long asyncRequestTimeoutMs,
+                                  @Value("${organization.export.timeout-ms:600000}") long exportTimeoutMs) {
         this.service = service;
+        this.exportService = exportService;
+        this.batchService = batchService;
+        this.detailsService = detailsService;
+        this.licenseBulkService = licenseBulkService;
+        this.changeService = changeService;
+        this.asyncRequestTimeoutMs = asyncRequestTimeoutMs;
+        this.exportTimeoutMs = exportTimeoutMs;
     }
 
     //TODO: Reactivate commented-out security rule
 //    @RolesAllowed("ADMIN")
     @GetMapping(value = "/all")
-    public ResponseEntity<List<OrganizationDto>> getAllOrganizations() {
+    public ResponseEntity<List<OrganizationDto>> getAllOrganizations(WebRequest request) {
+        var version = service.findCollectionVersion();
+        if (version.isPresent() && request.checkNotModified(version.get().getETag(), toEpochMilli(version.get().getLastModified()))) {
+            return null;
+        }
         return ResponseEntity.ok(service.findAll());
     }
 
+    //TODO: Reactivate commented-out security rule
+//    @RolesAllowed("ADMIN")
+    @GetMapping(value = "/all", params = "limit")
+    public ResponseEntity<OrganizationPage> getOrganizationPage(@RequestParam("limit") int limit, @RequestParam(value = "after", required = false) String after) {
+        return ResponseEntity.ok(service.findPage(after, limit));
+    }
+
+    //TODO: Reactivate commented-out security rule
+//    @RolesAllowed("ADMIN")
+    @GetMapping(value = "/changes")
+    public ResponseEntity<OrganizationChangePage> getChanges(@RequestParam(value = "since", defaultValue = "0") long since,
+                                                             @RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(changeService.findChangesSince(since, limit));
+    }
+
+    //TODO: Reactivate commented-out security rule
+//    @RolesAllowed({ "ADMIN", "USER" })
+    @GetMapping(value="/{organizationId}/details")
+    public CompletableFuture<ResponseEntity<OrganizationDetails>> getOrganizationDetails(@RequestHeader(value = "Authorization") String authToken, @PathVariable("organizationId") String organizationId) {
+        return detailsService.findDetails(authToken, organizationId).thenApply(ResponseEntity::ok);
+    }
+
+    //TODO: Reactivate commented-out security rule
+//    @RolesAllowed("ADMIN")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportOrganizations(HttpServletResponse response) {
+        // Streams from a DB cursor on the MVC async executor; only this request gets the long timeout
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            exportService.exportAll(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+
     //TODO: Reactivate commented-out security rule
 //    @RolesAllowed({ "ADMIN", "USER" })
     @GetMapping(value="/{organizationId}")
-    public ResponseEntity<OrganizationDto> getOrganization(@PathVariable("organizationId") String organizationId) {
-        return ResponseEntity.ok(service.findById(organizationId));
+    public ResponseEntity<OrganizationDto> getOrganization(@PathVariable("organizationId") String organizationId, WebRequest request) {
+        // Conditional requests are answered from the version columns (or the cache) before the record is loaded
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            var version = service.findVersion(organizationId);
+            if (version.isPresent() && request.checkNotModified(version.get().getETag(), toEpochMilli(version.get().getLastModified()))) {
+                return null;
+            }
+        }
+        var organizationDto = service.findOrganization(organizationId)
+                .orElseThrow(() -> new MissingOrganizationException("No organization found for the provided id"));
+        var response = ResponseEntity.ok();
+        if (organizationDto.getVersion() != null) {
+            response.eTag(String.valueOf(organizationDto.getVersion()));
+        }
+        if (organizationDto.getLastModified() != null) {
+            response.lastModified(organizationDto.getLastModified());
+        }
+        return response.body(organizationDto);
     }
 
     //TODO: Reactivate commented-out security rule
 //    @RolesAllowed("ADMIN")
     @PutMapping(value="/{organizationId}")
-    public ResponseEntity<OrganizationDto> updateOrganization(@PathVariable("organizationId") String id, @Valid @RequestBody OrganizationDto organizationDto, BindingResult result) {
+    public ResponseEntity<OrganizationDto> updateOrganization(@PathVariable("organizationId") String id, @Valid @RequestBody OrganizationDto organizationDto, BindingResult result,
+                                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (result.hasErrors()) {
             log.error("Failed updating Organization record with id {} ", id);
             throw new InvalidOrganizationRecord("An error occured while trying to update organization record");
         }
-        return ResponseEntity.ok(service.update(id, organizationDto));
+        var updatedDto = service.update(id, organizationDto, expectedVersion(ifMatch));
+        var response = ResponseEntity.ok();
+        if (updatedDto.getVersion() != null) {
+            response.eTag(String.valueOf(updatedDto.getVersion()));
+        }
+        return response.body(updatedDto);
     }
 
     //TODO: Reactivate commented-out security rule
@@ -62,6 +164,20 @@ public class OrganizationController {
         return ResponseEntity.ok(service.create(organizationDto));
     }
 
+    //TODO: Reactivate commented-out security rule
+//    @RolesAllowed("ADMIN")
+    @PostMapping(value = "/batch")
+    public ResponseEntity<List<BatchItemResult>> saveOrganizations(@RequestBody List<OrganizationDto> organizationDtos) {
+        return ResponseEntity.ok(batchService.createAll(organizationDtos));
+    }
+
+    //TODO: Reactivate commented-out security rule
+//    @RolesAllowed("ADMIN")
+    @PutMapping(value = "/batch")
+    public ResponseEntity<List<BatchItemResult>> updateOrganizations(@RequestBody List<OrganizationDto> organizationDtos) {
+        return ResponseEntity.ok(batchService.updateAll(organizationDtos));
+    }
+
     //TODO: Reactivate commented-out security rule
 //    @RolesAllowed("ADMIN")
     @DeleteMapping(value="/{organizationId}")
@@ -75,4 +191,43 @@ public class OrganizationController {
         return ResponseEntity.ok(service.findAllLicensesForOrganization(authToken, organizationId));
     }
 
+    @PostMapping(value = "license/bulk")
+    public ResponseEntity<Map<String, LicenseLookupResult>> fetchLicensesForOrganizations(@RequestHeader(value = "Authorization") String authToken, @RequestBody List<String> organizationIds) {
+        return ResponseEntity.ok(licenseBulkService.findLicensesForOrganizations(authToken, organizationIds));
+    }
+
+    @GetMapping(value = "license/{organizationId}/async")
+    public DeferredResult<ResponseEntity<List<LicenseDTO>>> fetchLicensesForOrganizationAsync(@RequestHeader(value = "Authorization") String authToken, @PathVariable ("organizationId") String organizationId) {
+        var deferredResult = new DeferredResult<ResponseEntity<List<LicenseDTO>>>(asyncRequestTimeoutMs);
+        deferredResult.onTimeout(() -> deferredResult.setErrorResult(ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build()));
+        service.findAllLicensesForOrganizationAsync(authToken, organizationId).whenComplete((licenses, exception) -> {
+            if (exception != null) {
+                deferredResult.setErrorResult(exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception);
+            } else {
+                deferredResult.setResult(ResponseEntity.ok(licenses));
+            }
+        });
+        return deferredResult;
+    }
+
+    // If-Match takes the strong ETag sent by GET /{id}; "*" or no header updates unconditionally
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        var tag = ifMatch.trim();
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            // Weak or foreign tags can never match a version under strong comparison
+            throw new StaleOrganizationException(String.format("If-Match %s does not match the current organization version", ifMatch));
+        }
+    }
+
+    private static long toEpochMilli(Instant instant) {
+        return instant == null ? -1 : instant.toEpochMilli();
+    }
 }
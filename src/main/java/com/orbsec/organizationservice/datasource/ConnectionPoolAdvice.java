@@ -0,0 +1,28 @@
+package com.orbsec.organizationservice.datasource;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of the connection pool and the pool size suggested for the demand seen over the sampling window.
+ */
+@Data
+@NoArgsConstructor
+public class ConnectionPoolAdvice {
+
+    String poolName;
+    int maximumPoolSize;
+    int activeConnections;
+    int idleConnections;
+    int pendingThreads;
+    // Highest active + waiting count seen in the sampling window
+    int peakDemand;
+    boolean saturated;
+    Double meanAcquireMillis;
+    Double maxAcquireMillis;
+    // Current and maximum limit of the organization-database concurrency limiter
+    Integer concurrencyLimit;
+    int concurrencyMaxLimit;
+    int recommendedMaximumPoolSize;
+    String reason;
+}
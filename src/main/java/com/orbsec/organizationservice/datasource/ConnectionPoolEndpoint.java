@@ -0,0 +1,26 @@
+package com.orbsec.organizationservice.datasource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/connectionpool: current pool usage and a suggested maximum pool size.
+ */
+@Component
+@Endpoint(id = "connectionpool")
+public class ConnectionPoolEndpoint {
+
+    private final ConnectionPoolMonitor connectionPoolMonitor;
+
+    @Autowired
+    public ConnectionPoolEndpoint(ConnectionPoolMonitor connectionPoolMonitor) {
+        this.connectionPoolMonitor = connectionPoolMonitor;
+    }
+
+    @ReadOperation
+    public ConnectionPoolAdvice advice() {
+        return connectionPoolMonitor.advise();
+    }
+}
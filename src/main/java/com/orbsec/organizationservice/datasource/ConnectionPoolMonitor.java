@@ -0,0 +1,163 @@
+package com.orbsec.organizationservice.datasource;
+
+import com.orbsec.organizationservice.execution.AdaptiveConcurrencyProperties;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the HikariCP pool behind the organization database.
+ * Active, idle and waiting counts are recorded as histograms next to the acquire-time timer HikariCP publishes
+ * (hikaricp.connections.acquire); threads waiting for a connection over several consecutive samples are logged as
+ * saturation. The peak demand over the sampling window drives the pool size suggested by {@link #advise()}, capped
+ * by the organization-database concurrency limiter, since limited calls can never hold more connections than it admits.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolMonitor {
+
+    static final String LIMITER = "organization-database";
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int concurrencyMaxLimit;
+    private final int saturationSamples;
+    private final int headroom;
+    private final DistributionSummary activeConnections;
+    private final DistributionSummary idleConnections;
+    private final DistributionSummary pendingThreads;
+    private final Counter saturationEpisodes;
+
+    private final int[] demandWindow;
+    private int windowIndex;
+    private int windowSize;
+    private int pendingStreak;
+    private boolean saturated;
+    private int lastActive;
+    private int lastIdle;
+    private int lastPending;
+
+    @Autowired
+    public ConnectionPoolMonitor(DataSource dataSource, MeterRegistry meterRegistry, AdaptiveConcurrencyProperties concurrencyProperties,
+                                 @Value("${organization.datasource.monitor.sample-interval-ms:1000}") long sampleIntervalMs,
+                                 @Value("${organization.datasource.monitor.window-seconds:300}") long windowSeconds,
+                                 @Value("${organization.datasource.monitor.saturation-samples:10}") int saturationSamples,
+                                 @Value("${organization.datasource.monitor.headroom:2}") int headroom) {
+        this.dataSource = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (this.dataSource == null) {
+            log.warn("Data source is not a HikariCP pool; connection pool monitoring is disabled");
+        }
+        this.meterRegistry = meterRegistry;
+        this.concurrencyMaxLimit = concurrencyProperties.forName(LIMITER).getMaxLimit();
+        this.saturationSamples = Math.max(1, saturationSamples);
+        this.headroom = Math.max(0, headroom);
+        this.demandWindow = new int[(int) Math.max(1, TimeUnit.SECONDS.toMillis(windowSeconds) / Math.max(1, sampleIntervalMs))];
+        this.activeConnections = poolSummary("active");
+        this.idleConnections = poolSummary("idle");
+        this.pendingThreads = poolSummary("pending");
+        this.saturationEpisodes = Counter.builder("organization.datasource.pool.saturation")
+                .description("Episodes of threads waiting for a database connection over consecutive samples")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${organization.datasource.monitor.sample-interval-ms:1000}")
+    public void sample() {
+        // The pool starts with the first connection request
+        var pool = dataSource == null ? null : dataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            record(pool.getActiveConnections(), pool.getIdleConnections(), pool.getThreadsAwaitingConnection());
+        }
+    }
+
+    synchronized void record(int active, int idle, int pending) {
+        activeConnections.record(active);
+        idleConnections.record(idle);
+        pendingThreads.record(pending);
+        lastActive = active;
+        lastIdle = idle;
+        lastPending = pending;
+        demandWindow[windowIndex] = active + pending;
+        windowIndex = (windowIndex + 1) % demandWindow.length;
+        windowSize = Math.min(windowSize + 1, demandWindow.length);
+
+        pendingStreak = pending > 0 ? pendingStreak + 1 : 0;
+        if (!saturated && pendingStreak >= saturationSamples) {
+            saturated = true;
+            saturationEpisodes.increment();
+            log.warn("Connection pool {} saturated: {} of {} connections active and {} threads waiting for {} consecutive samples",
+                    poolName(), active, dataSource == null ? 0 : dataSource.getMaximumPoolSize(), pending, pendingStreak);
+        } else if (saturated && pending == 0) {
+            saturated = false;
+            log.info("Connection pool {} is no longer saturated", poolName());
+        }
+    }
+
+    public synchronized ConnectionPoolAdvice advise() {
+        var advice = new ConnectionPoolAdvice();
+        advice.setPoolName(poolName());
+        advice.setConcurrencyMaxLimit(concurrencyMaxLimit);
+        var limit = meterRegistry.find("organization.concurrency.limit").tag("limiter", LIMITER).gauge();
+        advice.setConcurrencyLimit(limit == null ? null : (int) limit.value());
+        if (dataSource == null) {
+            advice.setReason("Data source is not a HikariCP pool");
+            return advice;
+        }
+        int maximumPoolSize = dataSource.getMaximumPoolSize();
+        advice.setMaximumPoolSize(maximumPoolSize);
+        advice.setActiveConnections(lastActive);
+        advice.setIdleConnections(lastIdle);
+        advice.setPendingThreads(lastPending);
+        advice.setSaturated(saturated);
+        var acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", poolName()).timer();
+        if (acquire != null) {
+            advice.setMeanAcquireMillis(acquire.mean(TimeUnit.MILLISECONDS));
+            advice.setMaxAcquireMillis(acquire.max(TimeUnit.MILLISECONDS));
+        }
+        if (windowSize == 0) {
+            advice.setRecommendedMaximumPoolSize(maximumPoolSize);
+            advice.setReason("No samples yet; the pool has not been used");
+            return advice;
+        }
+
+        int peakDemand = 0;
+        for (int i = 0; i < windowSize; i++) {
+            peakDemand = Math.max(peakDemand, demandWindow[i]);
+        }
+        advice.setPeakDemand(peakDemand);
+        int ceiling = concurrencyMaxLimit + headroom;
+        int recommended = Math.min(ceiling, Math.max(1, peakDemand + headroom));
+        advice.setRecommendedMaximumPoolSize(recommended);
+        if (recommended > maximumPoolSize) {
+            advice.setReason(String.format("Threads waited for connections: peak demand of %d exceeds the pool of %d", peakDemand, maximumPoolSize));
+        } else if (recommended < maximumPoolSize) {
+            advice.setReason(String.format("Peak demand of %d leaves %d connections unused; %s never admits more than %d concurrent calls",
+                    peakDemand, maximumPoolSize - peakDemand, LIMITER, concurrencyMaxLimit));
+        } else {
+            advice.setReason("Pool size matches the observed demand");
+        }
+        return advice;
+    }
+
+    private String poolName() {
+        return dataSource == null ? null : dataSource.getPoolName();
+    }
+
+    private DistributionSummary poolSummary(String state) {
+        return DistributionSummary.builder("organization.datasource.pool.connections")
+                .description("Sampled connection pool usage")
+                .tag("state", state)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
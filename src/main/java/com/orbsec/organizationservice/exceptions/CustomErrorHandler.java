@@ -1,5 +1,6 @@
 package com.orbsec.organizationservice.exceptions;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -34,4 +35,28 @@ public class CustomErrorHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_ACCEPTABLE);
     }
 
+    @ExceptionHandler(InvalidContinuationToken.class)
+    public ResponseEntity<CustomError> invalidContinuationTokenHandler(InvalidContinuationToken exception) {
+        var error = errorGenerator(exception, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(StaleOrganizationException.class)
+    public ResponseEntity<CustomError> staleOrganizationHandler(StaleOrganizationException exception) {
+        var error = errorGenerator(exception, HttpStatus.PRECONDITION_FAILED);
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ExpiredWatermarkException.class)
+    public ResponseEntity<CustomError> expiredWatermarkHandler(ExpiredWatermarkException exception) {
+        var error = errorGenerator(exception, HttpStatus.GONE);
+        return new ResponseEntity<>(error, HttpStatus.GONE);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<CustomError> serviceOverloadedHandler(ServiceOverloadedException exception) {
+        var error = errorGenerator(exception, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+
 }
@@ -0,0 +1,8 @@
+package com.orbsec.organizationservice.exceptions;
+
+public class ExpiredWatermarkException extends RuntimeException {
+
+    public ExpiredWatermarkException(String message) {
+        super(message);
+    }
+}
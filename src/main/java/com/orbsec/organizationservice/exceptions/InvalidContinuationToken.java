@@ -0,0 +1,12 @@
+package com.orbsec.organizationservice.exceptions;
+
+public class InvalidContinuationToken extends RuntimeException {
+
+    public InvalidContinuationToken(String message) {
+        super(message);
+    }
+
+    public InvalidContinuationToken(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
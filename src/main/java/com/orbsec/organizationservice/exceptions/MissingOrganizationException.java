@@ -1,9 +1,13 @@
 package com.orbsec.organizationservice.exceptions;
 
+/**
+ * Signals an unknown organization id, which is an expected outcome rather than a fault.
+ * No stack trace is captured: it is always handled as a 404 and the trace would only cost time on every miss.
+ */
 public class MissingOrganizationException extends RuntimeException {
 
     public MissingOrganizationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
 }
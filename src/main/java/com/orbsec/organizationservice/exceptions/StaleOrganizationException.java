@@ -0,0 +1,8 @@
+package com.orbsec.organizationservice.exceptions;
+
+public class StaleOrganizationException extends RuntimeException {
+
+    public StaleOrganizationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,107 @@
+package com.orbsec.organizationservice.execution;
+
+import com.orbsec.organizationservice.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies {@link AdaptiveConcurrencyLimit}. Runs ahead of the Resilience4j and transaction advice, so a shed call
+ * is rejected before it opens a transaction and is never retried or turned into fallback data.
+ * Calls are rejected rather than queued, so in-flight is also the depth of work waiting on the backend.
+ * Only calls that reach the backend move the limit: a failure backs it off like a slow call, while cache hits
+ * ({@link ConcurrencySample#skip()}) and calls refused by an open circuit breaker release their slot unsampled.
+ * An asynchronous call holds its slot until both the caller's stage and the backend call behind it have completed,
+ * so work abandoned by a TimeLimiter still counts as in flight.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(AdaptiveConcurrencyProperties.class)
+public class AdaptiveConcurrencyAspect {
+
+    private final AdaptiveConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdaptiveConcurrencyAspect(AdaptiveConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(concurrencyLimit)")
+    public Object limit(ProceedingJoinPoint joinPoint, AdaptiveConcurrencyLimit concurrencyLimit) throws Throwable {
+        var name = concurrencyLimit.value();
+        var limiter = limiters.computeIfAbsent(name, this::createLimiter);
+        if (!limiter.tryAcquire()) {
+            rejections.get(name).increment();
+            log.warn("Shedding call to {}: concurrency limit {} reached", joinPoint.getSignature().toShortString(), limiter.getLimit());
+            throw new ServiceOverloadedException(String.format("Service is overloaded (%s), please retry later", name));
+        }
+        var sample = new ConcurrencySample(properties.forName(name).getIgnoreExceptions());
+        var outer = ConcurrencySample.open(sample);
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            sample.failed(e);
+            release(limiter, sample, start);
+            throw e;
+        } finally {
+            ConcurrencySample.close(outer);
+        }
+        if (result instanceof CompletionStage) {
+            var backendCall = sample.backendCall();
+            ((CompletionStage<?>) result).whenComplete((value, exception) -> {
+                if (exception != null) {
+                    sample.failed(exception);
+                }
+                backendCall.whenComplete((backendValue, backendException) -> release(limiter, sample, start));
+            });
+        } else {
+            release(limiter, sample, start);
+        }
+        return result;
+    }
+
+    private void release(AdaptiveLimiter limiter, ConcurrencySample sample, long start) {
+        if (!sample.isSampled()) {
+            limiter.releaseWithoutSample();
+        } else if (sample.isFailed()) {
+            limiter.drop();
+        } else {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private AdaptiveLimiter createLimiter(String name) {
+        var limiter = new AdaptiveLimiter(properties.forName(name));
+        Gauge.builder("organization.concurrency.limit", limiter, AdaptiveLimiter::getLimit)
+                .tag("limiter", name)
+                .register(meterRegistry);
+        Gauge.builder("organization.concurrency.in-flight", limiter, AdaptiveLimiter::getInFlight)
+                .tag("limiter", name)
+                .register(meterRegistry);
+        rejections.put(name, Counter.builder("organization.concurrency.rejected")
+                .tag("limiter", name)
+                .register(meterRegistry));
+        return limiter;
+    }
+}
@@ -0,0 +1,19 @@
+package com.orbsec.organizationservice.execution;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Guards a method with the named adaptive concurrency limiter; calls beyond the current limit fail fast with
+ * {@link com.orbsec.organizationservice.exceptions.ServiceOverloadedException}.
+ * Methods returning a CompletionStage hold their slot until the stage completes.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdaptiveConcurrencyLimit {
+
+    // Limiter name, configured under organization.concurrency.limiters.<name>
+    String value();
+}
@@ -0,0 +1,48 @@
+package com.orbsec.organizationservice.execution;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Innermost half of {@link AdaptiveConcurrencyLimit}: runs after the Resilience4j advice, so it only sees attempts
+ * that actually ran the method, and sees their failures before a fallback replaces them.
+ * A call refused by an open circuit breaker never gets here and is released without a sample. For an asynchronous
+ * method it also hands the raw future to the sample: a TimeLimiter may answer the caller while the backend call keeps
+ * running, and the slot is only given back once that call has finished.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class AdaptiveConcurrencyOutcomeAspect {
+
+    @Around("@annotation(com.orbsec.organizationservice.execution.AdaptiveConcurrencyLimit)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        var sample = ConcurrencySample.current();
+        if (sample == null) {
+            return joinPoint.proceed();
+        }
+        sample.reached();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            sample.failed(e);
+            throw e;
+        }
+        if (result instanceof CompletionStage) {
+            // The stage returned by whenComplete, so the failure is recorded before the slot is released
+            sample.awaitingBackend(((CompletionStage<?>) result).whenComplete((value, exception) -> {
+                if (exception != null) {
+                    sample.failed(exception);
+                }
+            }));
+        }
+        return result;
+    }
+}
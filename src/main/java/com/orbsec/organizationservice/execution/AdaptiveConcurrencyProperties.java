@@ -0,0 +1,37 @@
+package com.orbsec.organizationservice.execution;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings for the adaptive concurrency limiters, keyed by limiter name. Limiters without an entry use the defaults.
+ */
+@Data
+@ConfigurationProperties(prefix = "organization.concurrency")
+public class AdaptiveConcurrencyProperties {
+
+    private Map<String, Limiter> limiters = new HashMap<>();
+
+    public Limiter forName(String name) {
+        return limiters.getOrDefault(name, new Limiter());
+    }
+
+    @Data
+    public static class Limiter {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        // Calls slower than this are treated as a congestion signal and shrink the limit
+        private Duration latencyThreshold = Duration.ofMillis(250);
+        // Multiplicative decrease applied on a congestion signal
+        private double backoffRatio = 0.9;
+        // Client outcomes: the backend answered, so these are latency samples rather than failures
+        private List<Class<? extends Throwable>> ignoreExceptions = new ArrayList<>();
+    }
+}
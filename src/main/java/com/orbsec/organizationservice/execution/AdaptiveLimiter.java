@@ -0,0 +1,66 @@
+package com.orbsec.organizationservice.execution;
+
+/**
+ * AIMD concurrency limit driven by observed latency.
+ * Every call that completes within the latency threshold while the limit is at least half used raises the limit
+ * by one; a slower call, or one the backend failed, multiplies it by the backoff ratio.
+ * The limit stays within [minLimit, maxLimit].
+ */
+public class AdaptiveLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveLimiter(AdaptiveConcurrencyProperties.Limiter settings) {
+        this.minLimit = Math.max(1, settings.getMinLimit());
+        this.maxLimit = Math.max(minLimit, settings.getMaxLimit());
+        this.latencyThresholdNanos = settings.getLatencyThreshold().toNanos();
+        this.backoffRatio = settings.getBackoffRatio();
+        this.limit = Math.min(maxLimit, Math.max(minLimit, settings.getInitialLimit()));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos) {
+        inFlight--;
+        if (latencyNanos > latencyThresholdNanos) {
+            backOff();
+        } else if (inFlight * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    // A failed call says nothing useful about latency: errors often come back fastest exactly when the backend is struggling
+    public synchronized void drop() {
+        inFlight--;
+        backOff();
+    }
+
+    // For calls that never reached the backend, such as cache hits or calls refused by an open circuit breaker
+    public synchronized void releaseWithoutSample() {
+        inFlight--;
+    }
+
+    private void backOff() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,86 @@
+package com.orbsec.organizationservice.execution;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * What one {@link AdaptiveConcurrencyLimit} call tells its limiter: whether it reached the backend, and whether the
+ * backend failed it. Resilience4j fallbacks run inside the limiter and turn most failures into ordinary results, so
+ * failures are recorded by {@link AdaptiveConcurrencyOutcomeAspect} around the method itself rather than read from
+ * what the caller finally gets back. For the same reason the backend call itself, not the caller's answer, decides
+ * when an asynchronous call gives back its slot.
+ */
+public final class ConcurrencySample {
+
+    private static final ThreadLocal<ConcurrencySample> CURRENT = new ThreadLocal<>();
+
+    private final List<Class<? extends Throwable>> ignoreExceptions;
+    private volatile boolean reached;
+    private volatile boolean skipped;
+    private volatile boolean failed;
+    // Completes when the backend call behind the limited method has finished; already complete for synchronous calls
+    private volatile CompletionStage<?> backendCall = CompletableFuture.completedFuture(null);
+
+    ConcurrencySample(List<Class<? extends Throwable>> ignoreExceptions) {
+        this.ignoreExceptions = ignoreExceptions;
+    }
+
+    /**
+     * Marks the current limited call as answered without the backend, e.g. from a cache, so its latency does not
+     * count as a fast backend call. Does nothing outside a limited call.
+     */
+    public static void skip() {
+        var sample = CURRENT.get();
+        if (sample != null) {
+            sample.skipped = true;
+        }
+    }
+
+    static ConcurrencySample current() {
+        return CURRENT.get();
+    }
+
+    // Returns the sample it replaces, so nested limited calls restore the outer one
+    static ConcurrencySample open(ConcurrencySample sample) {
+        var outer = CURRENT.get();
+        CURRENT.set(sample);
+        return outer;
+    }
+
+    static void close(ConcurrencySample outer) {
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+
+    void reached() {
+        reached = true;
+    }
+
+    void failed(Throwable exception) {
+        var cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+        if (ignoreExceptions.stream().noneMatch(ignored -> ignored.isInstance(cause))) {
+            failed = true;
+        }
+    }
+
+    void awaitingBackend(CompletionStage<?> call) {
+        backendCall = call;
+    }
+
+    CompletionStage<?> backendCall() {
+        return backendCall;
+    }
+
+    boolean isSampled() {
+        return reached && !skipped;
+    }
+
+    boolean isFailed() {
+        return failed;
+    }
+}
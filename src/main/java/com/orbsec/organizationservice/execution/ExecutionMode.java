@@ -0,0 +1,8 @@
+package com.orbsec.organizationservice.execution;
+
+public enum ExecutionMode {
+    // Bounded pool of platform threads
+    PLATFORM,
+    // One virtual thread per task (JDK 21+); falls back to PLATFORM on older runtimes
+    VIRTUAL
+}
@@ -0,0 +1,120 @@
+package com.orbsec.organizationservice.execution;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated executor for blocking work (database and licensing-service calls) that runs off the request thread.
+ * In PLATFORM mode this is a bounded thread pool; in VIRTUAL mode every task gets its own virtual thread and
+ * max-concurrency caps how many run at once. Either way, submissions beyond the bound are rejected rather than
+ * queued without limit.
+ * Deliberately not exposed as an {@link java.util.concurrent.Executor} bean, so Spring Boot's
+ * applicationTaskExecutor (used by MVC async requests) is still auto-configured.
+ */
+@Slf4j
+@Component
+public class OrganizationTaskExecutor {
+
+    private final ExecutorService executorService;
+    private final ExecutionMode mode;
+    private final Semaphore concurrencyLimit;
+
+    @Autowired
+    public OrganizationTaskExecutor(@Value("${organization.execution.mode:platform}") ExecutionMode requestedMode,
+                                    @Value("${organization.execution.core-pool-size:8}") int corePoolSize,
+                                    @Value("${organization.execution.max-pool-size:32}") int maxPoolSize,
+                                    @Value("${organization.execution.queue-capacity:500}") int queueCapacity,
+                                    @Value("${organization.execution.max-concurrency:1000}") int maxConcurrency,
+                                    MeterRegistry meterRegistry) {
+        if (requestedMode == ExecutionMode.VIRTUAL && !VirtualThreads.isSupported()) {
+            log.warn("Virtual threads are not supported by this JVM ({}); using a platform thread pool", Runtime.version());
+            this.mode = ExecutionMode.PLATFORM;
+        } else {
+            this.mode = requestedMode;
+        }
+        if (mode == ExecutionMode.VIRTUAL) {
+            this.concurrencyLimit = new Semaphore(maxConcurrency);
+            this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, VirtualThreads.newVirtualThreadPerTaskExecutor(), "organizationTaskExecutor", Tags.empty());
+            Gauge.builder("organization.execution.virtual.active", concurrencyLimit, limit -> maxConcurrency - limit.availablePermits())
+                    .register(meterRegistry);
+        } else {
+            this.concurrencyLimit = null;
+            var threadPool = new ThreadPoolExecutor(corePoolSize, maxPoolSize, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("organization-task-"), new ThreadPoolExecutor.AbortPolicy());
+            this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "organizationTaskExecutor", Tags.empty());
+        }
+        log.info("Organization task executor running in {} mode", mode);
+    }
+
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        if (concurrencyLimit == null) {
+            return CompletableFuture.supplyAsync(task, executorService);
+        }
+        acquirePermit();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.get();
+                } finally {
+                    concurrencyLimit.release();
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            concurrencyLimit.release();
+            throw e;
+        }
+    }
+
+    public void execute(Runnable task) {
+        if (concurrencyLimit == null) {
+            executorService.execute(task);
+            return;
+        }
+        acquirePermit();
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    concurrencyLimit.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            concurrencyLimit.release();
+            throw e;
+        }
+    }
+
+    private void acquirePermit() {
+        if (!concurrencyLimit.tryAcquire()) {
+            throw new RejectedExecutionException("Organization task executor is at its concurrency limit");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Shutting down organization task executor");
+        executorService.shutdown();
+    }
+}
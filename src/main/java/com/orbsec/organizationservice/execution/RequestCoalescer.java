@@ -0,0 +1,98 @@
+package com.orbsec.organizationservice.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-flight execution of identical concurrent lookups.
+ * The first caller for a key (the leader) runs the backend call on its own thread; callers arriving while it is in
+ * flight wait for the same result instead of issuing their own call. Nothing is retained once the call completes,
+ * so this collapses bursts only and never serves stale data.
+ * Mutable results must be copied for followers, otherwise every caller would share one instance.
+ */
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RequestCoalescer(@Value("${organization.coalescing.enabled:true}") boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, String key, Supplier<T> call) {
+        return execute(operation, key, call, UnaryOperator.identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> call, UnaryOperator<T> followerCopy) {
+        if (!enabled) {
+            return call.get();
+        }
+        var flightKey = operation + ':' + key;
+        var leaderFuture = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(flightKey, leaderFuture);
+        if (existing != null) {
+            counter(operation, "follower").increment();
+            log.debug("Coalescing {} call into the in-flight request", operation);
+            return followerCopy.apply((T) await(existing));
+        }
+        counter(operation, "leader").increment();
+        try {
+            T result = call.get();
+            leaderFuture.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            leaderFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, leaderFuture);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced request", e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private Counter counter(String operation, String role) {
+        return Counter.builder("organization.requests.coalescing")
+                .description("Lookups that led a backend call or joined one already in flight")
+                .tag("operation", operation)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package com.orbsec.organizationservice.execution;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In VIRTUAL execution mode, Tomcat hands each request to a virtual thread instead of its platform worker pool,
+ * so requests blocked on JPA or Feign no longer hold a scarce thread.
+ * Ignored, with a warning, on runtimes without virtual-thread support.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "organization.execution.mode", havingValue = "virtual")
+public class VirtualThreadTomcatConfig {
+
+    @Bean
+    TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        if (!VirtualThreads.isSupported()) {
+            log.warn("Virtual threads are not supported by this JVM ({}); Tomcat keeps its platform worker pool", Runtime.version());
+            return protocolHandler -> { };
+        }
+        return protocolHandler -> {
+            log.info("Tomcat request handling runs on virtual threads");
+            protocolHandler.setExecutor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+        };
+    }
+}
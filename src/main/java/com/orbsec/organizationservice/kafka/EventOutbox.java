@@ -0,0 +1,36 @@
+package com.orbsec.organizationservice.kafka;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.model.OrganizationChange;
+import com.orbsec.organizationservice.model.OutboxEvent;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import com.orbsec.organizationservice.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Write side of the transactional outbox: records a change event in the caller's transaction,
+ * so the event exists if and only if the organization change commits. {@link OutboxRelay} publishes it.
+ * The same transaction appends to the change log served to delta-sync clients; the entry gets its client-visible
+ * sequence after commit, from {@link com.orbsec.organizationservice.service.OrganizationChangeSequencer}.
+ */
+@Component
+public class EventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrganizationChangeRepository organizationChangeRepository;
+
+    @Autowired
+    public EventOutbox(OutboxEventRepository outboxEventRepository, OrganizationChangeRepository organizationChangeRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.organizationChangeRepository = organizationChangeRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String organizationId, ChangeType changeType, String eventDescription) {
+        outboxEventRepository.save(new OutboxEvent(organizationId, changeType, eventDescription));
+        organizationChangeRepository.save(new OrganizationChange(organizationId, changeType));
+    }
+}
@@ -1,26 +1,86 @@
 package com.orbsec.organizationservice.kafka;
 
-import com.orbsec.organizationservice.avro.ChangeType;
 import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends organization change events for {@link OutboxRelay}. Every send is tracked through its future: latency and
+ * outcome are recorded and the number of unacknowledged sends is bounded. Nothing is buffered or re-sent here;
+ * a failed batch stays in the outbox and the relay sends it again.
+ */
+@Slf4j
 @Component
 public class EventProducer {
 
-    private final KafkaTemplate<Integer, OrganizationChangeEvent> kafkaTemplate;
+    private final KafkaTemplate<String, OrganizationChangeEvent> kafkaTemplate;
     private final NewTopic organizationTopic;
+    private final Semaphore inFlight;
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
 
     @Autowired
-    public EventProducer(KafkaTemplate<Integer, OrganizationChangeEvent> kafkaTemplate, NewTopic organizationTopic) {
+    public EventProducer(KafkaTemplate<String, OrganizationChangeEvent> kafkaTemplate, NewTopic organizationTopic, MeterRegistry meterRegistry,
+                         @Value("${organization.events.max-in-flight:1000}") int maxInFlight) {
         this.kafkaTemplate = kafkaTemplate;
         this.organizationTopic = organizationTopic;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.sendSuccessTimer = Timer.builder("organization.events.send").tag("outcome", "success").register(meterRegistry);
+        this.sendFailureTimer = Timer.builder("organization.events.send").tag("outcome", "failure").register(meterRegistry);
+        meterRegistry.gauge("organization.events.in-flight", inFlight, semaphore -> (double) maxInFlight - semaphore.availablePermits());
+    }
+
+    /**
+     * Sends a batch and completes once the broker has acknowledged every event, or exceptionally on the first
+     * failure. Blocks while the in-flight bound is reached.
+     */
+    public CompletableFuture<Void> publishAcknowledged(List<OrganizationChangeEvent> changeEvents) {
+        var acknowledgements = new CompletableFuture<?>[changeEvents.size()];
+        for (int i = 0; i < changeEvents.size(); i++) {
+            inFlight.acquireUninterruptibly();
+            acknowledgements[i] = send(changeEvents.get(i)).completable();
+        }
+        kafkaTemplate.flush();
+        return CompletableFuture.allOf(acknowledgements);
     }
 
-    public void publishNewEvent(String organizationId, ChangeType changeType, String eventDescription) {
-        var changeEvent = new OrganizationChangeEvent(organizationId, changeType, eventDescription);
-        kafkaTemplate.send(organizationTopic.name(), changeEvent);
+    // Callers must hold an in-flight permit; it is released when the send completes either way
+    private ListenableFuture<SendResult<String, OrganizationChangeEvent>> send(OrganizationChangeEvent changeEvent) {
+        long start = System.nanoTime();
+        ListenableFuture<SendResult<String, OrganizationChangeEvent>> future;
+        try {
+            // Keyed by organization id, so all events of one organization land on the same partition; their order there
+            // depends on the outbox relay sending from one replica at a time
+            future = kafkaTemplate.send(organizationTopic.name(), changeEvent.getOrganizationId().toString(), changeEvent);
+        } catch (RuntimeException e) {
+            var failed = new SettableListenableFuture<SendResult<String, OrganizationChangeEvent>>();
+            failed.setException(e);
+            future = failed;
+        }
+        future.addCallback(
+                result -> {
+                    inFlight.release();
+                    sendSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                },
+                exception -> {
+                    inFlight.release();
+                    sendFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    log.error("Failed sending OrganizationChangeEvent for organization {}: {}", changeEvent.getOrganizationId(), exception.getMessage());
+                });
+        return future;
     }
 }
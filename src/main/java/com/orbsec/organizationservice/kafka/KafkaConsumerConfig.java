@@ -0,0 +1,38 @@
+package com.orbsec.organizationservice.kafka;
+
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import com.orbsec.organizationservice.kafka.serializer.EventDeserializer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * Container factory for the service's own organization_events topic. Every replica joins with its own
+     * consumer group (see {@link OrganizationEventListener}) and starts from the latest offset, because only
+     * changes made after start-up can make locally cached entries stale.
+     */
+    @Bean
+    ConcurrentKafkaListenerContainerFactory<String, OrganizationChangeEvent> organizationEventListenerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> consumerProperties = kafkaProperties.buildConsumerProperties();
+        consumerProperties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // Records that cannot be decoded (e.g. older JSON-encoded events) are logged and skipped instead of stalling the consumer
+        consumerProperties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        consumerProperties.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, EventDeserializer.class);
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
+
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, OrganizationChangeEvent>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerProperties));
+        return factory;
+    }
+}
@@ -0,0 +1,77 @@
+package com.orbsec.organizationservice.kafka;
+
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import com.orbsec.organizationservice.kafka.serializer.EventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Producer for organization_events, built from spring.kafka.* plus the selected {@link ProducerTuningProperties}
+ * profile. Client metrics (kafka.producer.record.send.rate, batch.size.avg, compression.rate.avg, ...) are bound to
+ * Micrometer and the effective settings are listed under /actuator/info.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ProducerTuningProperties.class)
+public class KafkaProducerConfig {
+
+    @Bean
+    ProducerFactory<String, OrganizationChangeEvent> organizationEventProducerFactory(KafkaProperties kafkaProperties, ProducerTuningProperties tuning,
+                                                                                      MeterRegistry meterRegistry) {
+        Map<String, Object> producerProperties = kafkaProperties.buildProducerProperties();
+        producerProperties.putAll(tunedProperties(tuning));
+        producerProperties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProperties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventSerializer.class);
+        log.info("Configuring organization_events producer with profile {}: {}", tuning.getProfile(), tunedProperties(tuning));
+
+        var producerFactory = new DefaultKafkaProducerFactory<String, OrganizationChangeEvent>(producerProperties);
+        String transactionIdPrefix = kafkaProperties.getProducer().getTransactionIdPrefix();
+        if (transactionIdPrefix != null) {
+            producerFactory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
+    }
+
+    @Bean
+    KafkaTemplate<String, OrganizationChangeEvent> organizationEventKafkaTemplate(ProducerFactory<String, OrganizationChangeEvent> organizationEventProducerFactory) {
+        return new KafkaTemplate<>(organizationEventProducerFactory);
+    }
+
+    @Bean
+    InfoContributor kafkaProducerInfoContributor(ProducerTuningProperties tuning) {
+        return builder -> {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("profile", tuning.getProfile());
+            details.putAll(tunedProperties(tuning));
+            builder.withDetail("organizationEventsProducer", details);
+        };
+    }
+
+    static Map<String, Object> tunedProperties(ProducerTuningProperties tuning) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, (int) tuning.effectiveLinger().toMillis());
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, (int) tuning.effectiveBatchSize().toBytes());
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, tuning.effectiveCompression());
+        properties.put(ProducerConfig.ACKS_CONFIG, tuning.effectiveAcks());
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, tuning.effectiveIdempotence());
+        // Idempotent producers keep order with up to 5 requests in flight; otherwise allow only one
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, tuning.effectiveIdempotence() ? 5 : 1);
+        properties.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, tuning.getMaxBlock().toMillis());
+        return properties;
+    }
+}
@@ -0,0 +1,42 @@
+package com.orbsec.organizationservice.kafka;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes this service's own change events so that every replica drops cached entries that were
+ * modified through another replica, and learns about organizations created there.
+ */
+@Component
+public class OrganizationEventListener {
+
+    private final OrganizationCache organizationCache;
+    private final UnknownOrganizationFilter unknownOrganizationFilter;
+
+    @Autowired
+    public OrganizationEventListener(OrganizationCache organizationCache, UnknownOrganizationFilter unknownOrganizationFilter) {
+        this.organizationCache = organizationCache;
+        this.unknownOrganizationFilter = unknownOrganizationFilter;
+    }
+
+    @KafkaListener(topics = "#{organizationTopic.name()}",
+            groupId = "${spring.application.name}-cache-${random.uuid}",
+            containerFactory = "organizationEventListenerFactory",
+            autoStartup = "${organization.cache.invalidation.enabled:true}")
+    public void onOrganizationEvent(OrganizationChangeEvent event) {
+        if (event == null || event.getOrganizationId() == null) {
+            return;
+        }
+        var organizationId = event.getOrganizationId().toString();
+        if (event.getChangeType() == ChangeType.CREATION) {
+            unknownOrganizationFilter.recordCreated(organizationId);
+        } else {
+            organizationCache.evict(organizationId);
+        }
+    }
+}
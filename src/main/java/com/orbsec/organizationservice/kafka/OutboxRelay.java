@@ -0,0 +1,93 @@
+package com.orbsec.organizationservice.kafka;
+
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import com.orbsec.organizationservice.model.OutboxEvent;
+import com.orbsec.organizationservice.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox table to organization_events. Each poll locks a batch of the oldest rows, sends them,
+ * waits for the broker acknowledgements and deletes the rows in the same transaction. A failed or timed out
+ * batch rolls back and is retried on the next poll, so delivery is at-least-once.
+ * Only one replica relays at a time: the others find the oldest rows locked and skip their poll. Together with
+ * keying by organization id this keeps each organization's events in order on its partition; a resent batch can
+ * repeat events, but never lets a newer event overtake an older one for good.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "organization.outbox.relay.enabled", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final int MAX_BATCHES_PER_POLL = 10;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, EventProducer eventProducer, PlatformTransactionManager transactionManager,
+                       @Value("${organization.outbox.batch-size:100}") int batchSize,
+                       @Value("${organization.outbox.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventProducer = eventProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    @Scheduled(fixedDelayString = "${organization.outbox.poll-interval-ms:500}")
+    public void relayPendingEvents() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                Integer relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed == null || relayed < batchSize) {
+                    return;
+                }
+            }
+        } catch (PessimisticLockingFailureException e) {
+            log.debug("Outbox is being relayed by another replica");
+        } catch (RuntimeException e) {
+            log.error("Failed relaying outbox events, will retry on next poll: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        var batch = outboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        var events = new ArrayList<OrganizationChangeEvent>(batch.size());
+        var ids = new ArrayList<Long>(batch.size());
+        for (OutboxEvent outboxEvent : batch) {
+            events.add(new OrganizationChangeEvent(outboxEvent.getOrganizationId(), outboxEvent.getChangeType(), outboxEvent.getDescription()));
+            ids.add(outboxEvent.getId());
+        }
+        try {
+            eventProducer.publishAcknowledged(events).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for outbox acknowledgements", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Outbox batch was not acknowledged: " + e.getMessage(), e);
+        }
+        outboxEventRepository.deleteByIds(ids);
+        log.info("Relayed {} outbox events to Kafka", batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,75 @@
+package com.orbsec.organizationservice.kafka;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Tuning surface for the organization_events producer. A named profile supplies defaults for batching,
+ * compression and durability; any individual setting can still be overridden per environment.
+ */
+@Data
+@ConfigurationProperties(prefix = "organization.kafka.producer")
+public class ProducerTuningProperties {
+
+    public enum Profile {
+        /**
+         * Send immediately with leader-only acks; one request in flight per connection keeps per-key order
+         * without idempotence. A leader fail-over can lose acknowledged events.
+         */
+        LOW_LATENCY(Duration.ZERO, DataSize.ofKilobytes(16), "lz4", "1", false),
+        /**
+         * Let records accumulate into large zstd-compressed batches; idempotent, fully replicated writes.
+         * The outbox relay flushes after every batch, so linger does not delay relayed events.
+         */
+        HIGH_THROUGHPUT(Duration.ofMillis(20), DataSize.ofKilobytes(256), "zstd", "all", true);
+
+        private final Duration linger;
+        private final DataSize batchSize;
+        private final String compression;
+        private final String acks;
+        private final boolean idempotence;
+
+        Profile(Duration linger, DataSize batchSize, String compression, String acks, boolean idempotence) {
+            this.linger = linger;
+            this.batchSize = batchSize;
+            this.compression = compression;
+            this.acks = acks;
+            this.idempotence = idempotence;
+        }
+    }
+
+    private Profile profile = Profile.HIGH_THROUGHPUT;
+
+    // Overrides; null means "use the profile's value"
+    private Duration linger;
+    private DataSize batchSize;
+    private String compression;
+    private String acks;
+    private Boolean idempotence;
+
+    // Upper bound on how long send() may block the caller waiting for metadata or buffer space
+    private Duration maxBlock = Duration.ofSeconds(5);
+
+    public Duration effectiveLinger() {
+        return linger != null ? linger : profile.linger;
+    }
+
+    public DataSize effectiveBatchSize() {
+        return batchSize != null ? batchSize : profile.batchSize;
+    }
+
+    public String effectiveCompression() {
+        return compression != null ? compression : profile.compression;
+    }
+
+    public String effectiveAcks() {
+        return acks != null ? acks : profile.acks;
+    }
+
+    public boolean effectiveIdempotence() {
+        return idempotence != null ? idempotence : profile.idempotence;
+    }
+}
@@ -0,0 +1,61 @@
+package com.orbsec.organizationservice.kafka.serializer;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Counterpart of {@link EventSerializer}. The datum reader is shared and decoders are reused per consumer thread.
+ */
+public class EventDeserializer implements Deserializer<OrganizationChangeEvent> {
+
+    /*
+     * The schema namespace (com.orbsec.organizationservice.avro.model) differs from the package of the generated
+     * classes, so Avro's name-based class lookup would fall back to generic records; map the two types explicitly.
+     */
+    private static final SpecificData MODEL = new SpecificData() {
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Class getClass(Schema schema) {
+            if (OrganizationChangeEvent.getClassSchema().getFullName().equals(schema.getFullName())) {
+                return OrganizationChangeEvent.class;
+            }
+            if (ChangeType.getClassSchema().getFullName().equals(schema.getFullName())) {
+                return ChangeType.class;
+            }
+            return super.getClass(schema);
+        }
+    };
+    private static final DatumReader<OrganizationChangeEvent> READER =
+            new SpecificDatumReader<>(OrganizationChangeEvent.getClassSchema(), OrganizationChangeEvent.getClassSchema(), MODEL);
+    private static final ThreadLocal<BinaryDecoder> DECODER = new ThreadLocal<>();
+
+    @Override
+    public OrganizationChangeEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        var decoder = DecoderFactory.get().binaryDecoder(data, DECODER.get());
+        DECODER.set(decoder);
+        try {
+            return READER.read(null, decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed deserializing OrganizationChangeEvent from topic " + topic, e);
+        }
+    }
+
+    @Override
+    public OrganizationChangeEvent deserialize(String topic, Headers headers, byte[] data) {
+        return deserialize(topic, data);
+    }
+}
@@ -1,46 +1,51 @@
 package com.orbsec.organizationservice.kafka.serializer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
-import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.Serializer;
 
-import java.util.Map;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 
-@Slf4j
+/**
+ * Encodes {@link OrganizationChangeEvent} as raw Avro binary (no schema header; the schema is fixed by the
+ * generated class). The datum writer is built once and each producer thread reuses its own output buffer and
+ * encoder, so a send only allocates the resulting byte array.
+ */
 public class EventSerializer implements Serializer<OrganizationChangeEvent> {
-    ObjectMapper mapper = new ObjectMapper();
 
-    @Override
-    public byte[] serialize(String topic, OrganizationChangeEvent data) {
-        return new byte[0];
-    }
+    private static final DatumWriter<OrganizationChangeEvent> WRITER = new SpecificDatumWriter<>(OrganizationChangeEvent.getClassSchema());
+    private static final ThreadLocal<EncoderState> ENCODER_STATE = ThreadLocal.withInitial(EncoderState::new);
 
     @Override
-    public void configure(Map<String, ?> configs, boolean isKey) {
-        Serializer.super.configure(configs, isKey);
+    public byte[] serialize(String topic, OrganizationChangeEvent data) {
+        if (data == null) {
+            return null;
+        }
+        var state = ENCODER_STATE.get();
+        state.buffer.reset();
+        state.encoder = EncoderFactory.get().directBinaryEncoder(state.buffer, state.encoder);
+        try {
+            WRITER.write(data, state.encoder);
+            state.encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed serializing OrganizationChangeEvent for topic " + topic, e);
+        }
+        return state.buffer.toByteArray();
     }
 
     @Override
     public byte[] serialize(String topic, Headers headers, OrganizationChangeEvent data) {
-        log.info("Attempting to serialize OrganizationChangeEvent object");
-        try {
-            if (data == null) {
-                return new byte[0];
-            }
-            mapper.addMixIn(OrganizationChangeEvent.class, IgnoreSchemaProperty.class);
-            return mapper.writeValueAsBytes(data);
-        } catch (JsonProcessingException e) {
-            log.error("Failed serializing OrganizationChangeEvent: {}", e.getMessage());
-        }
-        log.info("OrganizationChangeEvent serialized!");
-        return Serializer.super.serialize(topic, headers, data);
+        return serialize(topic, data);
     }
 
-    @Override
-    public void close() {
-        Serializer.super.close();
+    private static final class EncoderState {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        private BinaryEncoder encoder;
     }
 }
@@ -0,0 +1,17 @@
+package com.orbsec.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchItemResult {
+
+    // Position of the item in the submitted list
+    int index;
+    String id;
+    BatchItemStatus status;
+    String message;
+}
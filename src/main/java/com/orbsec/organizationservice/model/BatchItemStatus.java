@@ -0,0 +1,8 @@
+package com.orbsec.organizationservice.model;
+
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    INVALID,
+    NOT_FOUND
+}
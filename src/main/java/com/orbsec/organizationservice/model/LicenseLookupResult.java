@@ -0,0 +1,17 @@
+package com.orbsec.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LicenseLookupResult {
+
+    LicenseLookupStatus status;
+    List<LicenseDTO> licenses;
+    String message;
+}
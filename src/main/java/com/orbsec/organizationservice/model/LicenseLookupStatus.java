@@ -0,0 +1,9 @@
+package com.orbsec.organizationservice.model;
+
+public enum LicenseLookupStatus {
+    FOUND,
+    // Licensing-service failed; the last known-good list from the license cache was returned instead
+    STALE,
+    UNAUTHORIZED,
+    UNAVAILABLE
+}
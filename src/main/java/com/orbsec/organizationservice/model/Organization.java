@@ -1,18 +1,21 @@
 package com.orbsec.organizationservice.model;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import org.hibernate.annotations.UpdateTimestamp;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
+import java.time.Instant;
 
 @Entity
 @Table(name = "organizations")
-@NoArgsConstructor @AllArgsConstructor
+@NoArgsConstructor
 @Getter @Setter
 public class Organization {
 
@@ -31,4 +34,22 @@ public class Organization {
 
     @Column(name = "contact_phone", nullable = false)
     String contactPhone;
+
+    // Optimistic-locking version, bumped on every update; also serves as the record's ETag.
+    // Primitive on purpose: ids are assigned up front, so save() keeps deciding between insert and update by lookup
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    long version;
+
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    Instant lastModified;
+
+    public Organization(String id, String name, String contactName, String contactEmail, String contactPhone) {
+        this.id = id;
+        this.name = name;
+        this.contactName = contactName;
+        this.contactEmail = contactEmail;
+        this.contactPhone = contactPhone;
+    }
 }
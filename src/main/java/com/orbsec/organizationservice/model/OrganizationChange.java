@@ -0,0 +1,56 @@
+package com.orbsec.organizationservice.model;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.Instant;
+
+/**
+ * One entry of the organization change log read by delta-sync clients. Rows are written in the same transaction
+ * as the change and, unlike outbox rows, kept after publishing, so deletions stay visible as tombstones until the
+ * retention period ends. The identity is handed out at insert, so it does not follow commit order; the sequence
+ * clients use as their watermark is assigned after commit by
+ * {@link com.orbsec.organizationservice.service.OrganizationChangeSequencer} and stays null until then.
+ * The timestamp is only used for retention.
+ */
+@Entity
+@Table(name = "organization_changes", indexes = @Index(name = "ux_organization_changes_sequence", columnList = "sequence", unique = true))
+@NoArgsConstructor
+@Getter @Setter
+public class OrganizationChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    Long id;
+
+    @Column(name = "sequence")
+    Long sequence;
+
+    @Column(name = "organization_id", nullable = false)
+    String organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    Instant changedAt;
+
+    public OrganizationChange(String organizationId, ChangeType changeType) {
+        this.organizationId = organizationId;
+        this.changeType = changeType;
+        this.changedAt = Instant.now();
+    }
+}
@@ -0,0 +1,17 @@
+package com.orbsec.organizationservice.model;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrganizationChangeDto {
+
+    String organizationId;
+    // DELETION entries are tombstones: the organization no longer exists
+    ChangeType changeType;
+    long sequence;
+}
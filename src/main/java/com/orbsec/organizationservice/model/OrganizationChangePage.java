@@ -0,0 +1,18 @@
+package com.orbsec.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrganizationChangePage {
+
+    List<OrganizationChangeDto> changes;
+    // Pass back as "since" on the next call; unchanged when there was nothing new
+    long watermark;
+    boolean hasMore;
+}
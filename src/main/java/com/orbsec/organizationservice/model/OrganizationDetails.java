@@ -0,0 +1,16 @@
+package com.orbsec.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrganizationDetails {
+
+    OrganizationDto organization;
+    List<LicenseDTO> licenses;
+}
@@ -1,12 +1,14 @@
 package com.orbsec.organizationservice.model;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotNull;
+import java.time.Instant;
 
 @Data
 @AllArgsConstructor
@@ -22,4 +24,17 @@ public class OrganizationDto {
     String contactEmail;
     @NotNull
     String contactPhone;
+    // Sent as ETag / Last-Modified headers rather than in the body
+    @JsonIgnore
+    Long version;
+    @JsonIgnore
+    Instant lastModified;
+
+    public OrganizationDto(String id, String name, String contactName, String contactEmail, String contactPhone) {
+        this.id = id;
+        this.name = name;
+        this.contactName = contactName;
+        this.contactEmail = contactEmail;
+        this.contactPhone = contactPhone;
+    }
 }
@@ -0,0 +1,17 @@
+package com.orbsec.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrganizationPage {
+
+    List<OrganizationDto> organizations;
+    // Opaque continuation token for the next page; null when this is the last page
+    String next;
+}
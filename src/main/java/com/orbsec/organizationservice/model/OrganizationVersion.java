@@ -0,0 +1,29 @@
+package com.orbsec.organizationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Just enough of a record (or of the whole table) to answer a conditional GET without loading entities.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrganizationVersion {
+
+    String eTag;
+    Instant lastModified;
+
+    public static OrganizationVersion of(Long version, Instant lastModified) {
+        return new OrganizationVersion(String.valueOf(version), lastModified);
+    }
+
+    // Any create, update or delete changes the row count, the version sum or the newest modification time
+    public static OrganizationVersion ofCollection(long count, long versionSum, Instant lastModified) {
+        long newest = lastModified == null ? 0 : lastModified.toEpochMilli();
+        return new OrganizationVersion(count + "-" + versionSum + "-" + newest, lastModified);
+    }
+}
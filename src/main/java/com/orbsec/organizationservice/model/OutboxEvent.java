@@ -0,0 +1,53 @@
+package com.orbsec.organizationservice.model;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+/**
+ * A change event waiting to be relayed to Kafka. Rows are written in the same transaction as the organization
+ * change they describe and removed once the broker has acknowledged them; the identity column gives the
+ * relay order.
+ */
+@Entity
+@Table(name = "organization_outbox")
+@NoArgsConstructor
+@Getter @Setter
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    Long id;
+
+    @Column(name = "organization_id", nullable = false)
+    String organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    ChangeType changeType;
+
+    @Column(name = "description", nullable = false, length = 512)
+    String description;
+
+    @Column(name = "created_at", nullable = false)
+    Instant createdAt;
+
+    public OutboxEvent(String organizationId, ChangeType changeType, String description) {
+        this.organizationId = organizationId;
+        this.changeType = changeType;
+        this.description = description;
+        this.createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,36 @@
+package com.orbsec.organizationservice.repository;
+
+import com.orbsec.organizationservice.model.OrganizationChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OrganizationChangeRepository extends CrudRepository<OrganizationChange, Long> {
+
+    // Range scan on the unique sequence index; entries not yet sequenced are never returned
+    List<OrganizationChange> findBySequenceGreaterThanOrderBySequenceAsc(long sequence, Pageable pageable);
+
+    // FOR UPDATE NOWAIT, like the outbox relay: a second sequencer finds the oldest entries locked and backs off
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "0"))
+    List<OrganizationChange> findBySequenceIsNullOrderByIdAsc(Pageable pageable);
+
+    @Query("select coalesce(max(c.sequence), 0) from OrganizationChange c")
+    long findLatestSequence();
+
+    // The newest entry is always kept, so a quiet log still tells an up-to-date watermark apart from a purged one
+    @Modifying
+    @Query("delete from OrganizationChange c where c.changedAt < :cutoff and c.sequence is not null and c.sequence < (select max(l.sequence) from OrganizationChange l)")
+    int deleteChangedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -1,12 +1,80 @@
 package com.orbsec.organizationservice.repository;
 
 import com.orbsec.organizationservice.model.Organization;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface OrganizationRepository extends CrudRepository<Organization, String> {
     Optional<Organization> findOrganizationsById(String id);
+
+    // Keyset pagination: the page boundary is the last organization_id seen, so every page is an index range scan
+    List<Organization> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<Organization> findByIdGreaterThanOrderByIdAsc(String id, Pageable pageable);
+
+    // Must be consumed inside a (read-only) transaction and closed by the caller
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select o from Organization o order by o.id")
+    Stream<Organization> streamAllOrderedById();
+
+    // Ids only, for rebuilding the unknown-id Bloom filter; same consumption rules as above
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select o.id from Organization o")
+    Stream<String> streamAllIds();
+
+    // Conditional GET support: version columns only, no entity is loaded or mapped
+    interface VersionView {
+        Long getVersion();
+        Instant getLastModified();
+    }
+
+    interface CollectionVersionView {
+        long getCount();
+        long getVersionSum();
+        Instant getLastModified();
+    }
+
+    @Query("select o.version as version, o.lastModified as lastModified from Organization o where o.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") String id);
+
+    @Query("select count(o) as count, coalesce(sum(o.version), 0) as versionSum, max(o.lastModified) as lastModified from Organization o")
+    CollectionVersionView findCollectionVersion();
+
+    // Single-statement updates: no entity is read or merged, so the version and timestamp are maintained here
+    @Modifying
+    @Query("update Organization o set o.name = :name, o.contactName = :contactName, o.contactEmail = :contactEmail, "
+            + "o.contactPhone = :contactPhone, o.version = o.version + 1, o.lastModified = :lastModified where o.id = :id")
+    int updateById(@Param("id") String id, @Param("name") String name, @Param("contactName") String contactName,
+                   @Param("contactEmail") String contactEmail, @Param("contactPhone") String contactPhone,
+                   @Param("lastModified") Instant lastModified);
+
+    @Modifying
+    @Query("update Organization o set o.name = :name, o.contactName = :contactName, o.contactEmail = :contactEmail, "
+            + "o.contactPhone = :contactPhone, o.version = o.version + 1, o.lastModified = :lastModified "
+            + "where o.id = :id and o.version = :version")
+    int updateByIdAndVersion(@Param("id") String id, @Param("version") long version, @Param("name") String name,
+                             @Param("contactName") String contactName, @Param("contactEmail") String contactEmail,
+                             @Param("contactPhone") String contactPhone, @Param("lastModified") Instant lastModified);
+
+    // One DELETE round-trip; CrudRepository.deleteById would load the entity first.
+    // The persistence context is cleared afterwards so a loaded copy cannot outlive the row
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Organization o where o.id = :id")
+    int deleteOrganizationById(@Param("id") String id);
 }
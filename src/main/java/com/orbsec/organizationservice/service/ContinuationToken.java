@@ -0,0 +1,36 @@
+package com.orbsec.organizationservice.service;
+
+import com.orbsec.organizationservice.exceptions.InvalidContinuationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the keyset position of a page (the last organization id returned) into an opaque, URL-safe token.
+ * Clients must treat the token as a black box; the prefix lets the format evolve without breaking old tokens silently.
+ */
+final class ContinuationToken {
+
+    private static final String PREFIX = "v1:";
+
+    private ContinuationToken() {
+    }
+
+    static String encode(String lastOrganizationId) {
+        byte[] raw = (PREFIX + lastOrganizationId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    static String decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidContinuationToken("Malformed continuation token", e);
+        }
+        if (!raw.startsWith(PREFIX) || raw.length() == PREFIX.length()) {
+            throw new InvalidContinuationToken("Unsupported continuation token");
+        }
+        return raw.substring(PREFIX.length());
+    }
+}
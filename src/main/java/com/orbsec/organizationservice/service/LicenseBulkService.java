@@ -0,0 +1,115 @@
+package com.orbsec.organizationservice.service;
+
+import com.orbsec.organizationservice.cache.LicenseCache;
+import com.orbsec.organizationservice.exceptions.InvalidOrganizationRecord;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.model.LicenseDTO;
+import com.orbsec.organizationservice.model.LicenseLookupResult;
+import com.orbsec.organizationservice.model.LicenseLookupStatus;
+import com.orbsec.organizationservice.service.client.GuardedLicenseClient;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * License lookups for many organizations in one request.
+ * Ids are de-duplicated, fresh cache entries are answered locally and the rest are fetched with at most
+ * bulk-concurrency calls in flight per request. Every call goes through the licensingService circuit breaker and the
+ * shared licensing-service concurrency limit, so concurrent bulk requests together cannot exceed what single lookups
+ * are held to; calls shed by the limit report UNAVAILABLE (or STALE). Unlike the single lookup, failures are not
+ * replaced by placeholder data: each id reports its own status.
+ */
+@Slf4j
+@Service
+public class LicenseBulkService {
+
+    public static final int MAX_BULK_IDS = 500;
+
+    private final GuardedLicenseClient licenseClient;
+    private final LicenseCache licenseCache;
+    private final OrganizationTaskExecutor taskExecutor;
+    private final int concurrency;
+
+    @Autowired
+    public LicenseBulkService(GuardedLicenseClient licenseClient, LicenseCache licenseCache, OrganizationTaskExecutor taskExecutor,
+                              @Value("${organization.licenses.bulk-concurrency:8}") int concurrency) {
+        this.licenseClient = licenseClient;
+        this.licenseCache = licenseCache;
+        this.taskExecutor = taskExecutor;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    public Map<String, LicenseLookupResult> findLicensesForOrganizations(String authToken, List<String> organizationIds) {
+        var uniqueIds = new LinkedHashSet<String>();
+        organizationIds.stream().filter(id -> id != null && !id.isBlank()).forEach(uniqueIds::add);
+        if (uniqueIds.size() > MAX_BULK_IDS) {
+            log.error("Rejected bulk license lookup for {} organizations", uniqueIds.size());
+            throw new InvalidOrganizationRecord(String.format("A bulk license lookup may contain at most %d organization ids", MAX_BULK_IDS));
+        }
+        log.info("Attempting to find License records for {} organizations", uniqueIds.size());
+
+        var lookups = new LinkedHashMap<String, CompletableFuture<LicenseLookupResult>>();
+        var permits = new Semaphore(concurrency);
+        for (String organizationId : uniqueIds) {
+            var cached = licenseCache.get(organizationId, authToken);
+            if (cached != null && licenseCache.stateOf(cached) == LicenseCache.State.FRESH) {
+                lookups.put(organizationId, CompletableFuture.completedFuture(new LicenseLookupResult(LicenseLookupStatus.FOUND, cached.getLicenses(), null)));
+                continue;
+            }
+            acquire(permits);
+            lookups.put(organizationId, submit(() -> lookup(authToken, organizationId))
+                    .whenComplete((result, exception) -> permits.release()));
+        }
+        CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture[0])).join();
+
+        var results = new LinkedHashMap<String, LicenseLookupResult>();
+        lookups.forEach((organizationId, lookup) -> results.put(organizationId, lookup.join()));
+        return results;
+    }
+
+    private LicenseLookupResult lookup(String authToken, String organizationId) {
+        try {
+            List<LicenseDTO> licenses = licenseClient.getAllLicensesForOrganization(authToken, organizationId);
+            licenseCache.put(organizationId, authToken, licenses);
+            return new LicenseLookupResult(LicenseLookupStatus.FOUND, licenses, null);
+        } catch (FeignException.Unauthorized e) {
+            log.error("Call to remote service is unauthorized for organization id {}", organizationId);
+            return new LicenseLookupResult(LicenseLookupStatus.UNAUTHORIZED, List.of(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Failed to fetch License records for organization id {}: {}", organizationId, e.getMessage());
+            var lastKnownGood = licenseCache.get(organizationId, authToken);
+            if (lastKnownGood != null) {
+                return new LicenseLookupResult(LicenseLookupStatus.STALE, lastKnownGood.getLicenses(), e.getMessage());
+            }
+            return new LicenseLookupResult(LicenseLookupStatus.UNAVAILABLE, List.of(), e.getMessage());
+        }
+    }
+
+    private CompletableFuture<LicenseLookupResult> submit(Supplier<LicenseLookupResult> task) {
+        try {
+            return taskExecutor.supplyAsync(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    private static void acquire(Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a license lookup slot", e);
+        }
+    }
+}
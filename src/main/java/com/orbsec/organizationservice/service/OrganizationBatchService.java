@@ -0,0 +1,173 @@
+package com.orbsec.organizationservice.service;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import com.orbsec.organizationservice.exceptions.InvalidOrganizationRecord;
+import com.orbsec.organizationservice.kafka.EventOutbox;
+import com.orbsec.organizationservice.model.BatchItemResult;
+import com.orbsec.organizationservice.model.BatchItemStatus;
+import com.orbsec.organizationservice.model.Organization;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk variants of create and update for onboarding imports. Items are validated one by one and reported
+ * individually; the valid ones are written in a single transaction using Hibernate JDBC batching
+ * (hibernate.jdbc.batch_size with ordered inserts/updates). Change events go to the outbox in the same
+ * transaction, and the outbox relay publishes them to Kafka in batches.
+ */
+@Slf4j
+@Service
+public class OrganizationBatchService {
+
+    public static final int MAX_BATCH_ITEMS = 1000;
+
+    private final OrganizationRepository repository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final EventOutbox eventOutbox;
+    private final OrganizationCache organizationCache;
+    private final UnknownOrganizationFilter unknownOrganizationFilter;
+    private final int jdbcBatchSize;
+
+    @Autowired
+    public OrganizationBatchService(OrganizationRepository repository, EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                    Validator validator, EventOutbox eventOutbox, OrganizationCache organizationCache,
+                                    UnknownOrganizationFilter unknownOrganizationFilter,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int jdbcBatchSize) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.eventOutbox = eventOutbox;
+        this.organizationCache = organizationCache;
+        this.unknownOrganizationFilter = unknownOrganizationFilter;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    public List<BatchItemResult> createAll(List<OrganizationDto> organizationDtos) {
+        checkBatchSize(organizationDtos);
+        log.info("Attempting to create {} organization records in batch", organizationDtos.size());
+        var results = new BatchItemResult[organizationDtos.size()];
+        var toInsert = new ArrayList<Organization>();
+        var insertIndexes = new ArrayList<Integer>();
+        for (int i = 0; i < organizationDtos.size(); i++) {
+            var violations = validate(organizationDtos.get(i));
+            if (violations != null) {
+                results[i] = new BatchItemResult(i, null, BatchItemStatus.INVALID, violations);
+                continue;
+            }
+            Organization organization = OrganizationMapper.toEntity(organizationDtos.get(i));
+            organization.setId(UUID.randomUUID().toString());
+            toInsert.add(organization);
+            insertIndexes.add(i);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < toInsert.size(); i++) {
+                // Ids are assigned up front, so persist() avoids the SELECT that save() would issue through merge()
+                var organization = toInsert.get(i);
+                entityManager.persist(organization);
+                eventOutbox.append(organization.getId(), ChangeType.CREATION, String.format("A new Organization with id %s has been saved to the database.", organization.getId()));
+                if ((i + 1) % jdbcBatchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        for (int i = 0; i < toInsert.size(); i++) {
+            results[insertIndexes.get(i)] = new BatchItemResult(insertIndexes.get(i), toInsert.get(i).getId(), BatchItemStatus.CREATED, null);
+            unknownOrganizationFilter.recordCreated(toInsert.get(i).getId());
+        }
+        log.info("Created {} of {} organization records in batch", toInsert.size(), organizationDtos.size());
+        return List.of(results);
+    }
+
+    public List<BatchItemResult> updateAll(List<OrganizationDto> organizationDtos) {
+        checkBatchSize(organizationDtos);
+        log.info("Attempting to update {} organization records in batch", organizationDtos.size());
+        var results = new BatchItemResult[organizationDtos.size()];
+        Map<String, Integer> updateIndexes = new HashMap<>();
+        for (int i = 0; i < organizationDtos.size(); i++) {
+            var organizationDto = organizationDtos.get(i);
+            var id = organizationDto == null ? null : organizationDto.getId();
+            String violations;
+            if (organizationDto != null && id == null) {
+                violations = "id: must not be null";
+            } else if (updateIndexes.containsKey(id)) {
+                violations = "id: appears more than once in this batch";
+            } else {
+                violations = validate(organizationDto);
+            }
+            if (violations != null) {
+                results[i] = new BatchItemResult(i, id, BatchItemStatus.INVALID, violations);
+                continue;
+            }
+            updateIndexes.put(id, i);
+        }
+
+        var updatedIds = transactionTemplate.execute(status -> {
+            var updated = new ArrayList<String>(updateIndexes.size());
+            // One IN query loads every target row; dirty checking then emits the UPDATEs as JDBC batches on commit
+            for (Organization organization : repository.findAllById(updateIndexes.keySet())) {
+                var updateDto = organizationDtos.get(updateIndexes.get(organization.getId()));
+                organization.setName(updateDto.getName());
+                organization.setContactName(updateDto.getContactName());
+                organization.setContactEmail(updateDto.getContactEmail());
+                organization.setContactPhone(updateDto.getContactPhone());
+                eventOutbox.append(organization.getId(), ChangeType.UPDATE, String.format("Organization with id %s has been updated", organization.getId()));
+                updated.add(organization.getId());
+            }
+            return updated;
+        });
+
+        for (String id : updatedIds) {
+            int index = updateIndexes.remove(id);
+            organizationCache.evict(id);
+            results[index] = new BatchItemResult(index, id, BatchItemStatus.UPDATED, null);
+        }
+        updateIndexes.forEach((id, index) ->
+                results[index] = new BatchItemResult(index, id, BatchItemStatus.NOT_FOUND, "No organization found for the provided id"));
+        log.info("Updated {} of {} organization records in batch", updatedIds.size(), organizationDtos.size());
+        return List.of(results);
+    }
+
+    private void checkBatchSize(List<OrganizationDto> organizationDtos) {
+        if (organizationDtos.size() > MAX_BATCH_ITEMS) {
+            log.error("Rejected batch of {} organization records", organizationDtos.size());
+            throw new InvalidOrganizationRecord(String.format("A batch may contain at most %d organization records", MAX_BATCH_ITEMS));
+        }
+    }
+
+    private String validate(OrganizationDto organizationDto) {
+        if (organizationDto == null) {
+            return "Organization record must not be null";
+        }
+        var violations = validator.validate(organizationDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,68 @@
+package com.orbsec.organizationservice.service;
+
+import com.orbsec.organizationservice.model.OrganizationChange;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Assigns the client-visible sequence to committed change-log entries. Writers never wait on each other: their
+ * transactions only insert entries, and an entry that has not committed is invisible here, so it is sequenced by a
+ * later poll. Only one replica sequences at a time (the others find the oldest entries locked), and each batch
+ * continues from the highest committed sequence, so sequences become visible in order, without gaps, and a
+ * delta-sync watermark never moves past an entry that shows up later.
+ */
+@Slf4j
+@Component
+public class OrganizationChangeSequencer {
+
+    private static final int MAX_BATCHES_PER_POLL = 10;
+
+    private final OrganizationChangeRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public OrganizationChangeSequencer(OrganizationChangeRepository repository, PlatformTransactionManager transactionManager,
+                                       @Value("${organization.changes.sequence-batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${organization.changes.sequence-interval-ms:200}")
+    public void sequencePendingChanges() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+                Integer sequenced = transactionTemplate.execute(status -> sequenceBatch());
+                if (sequenced == null || sequenced < batchSize) {
+                    return;
+                }
+            }
+        } catch (PessimisticLockingFailureException e) {
+            log.debug("Change log is being sequenced by another replica");
+        } catch (RuntimeException e) {
+            log.error("Failed sequencing organization changes, will retry on next poll: {}", e.getMessage());
+        }
+    }
+
+    int sequenceBatch() {
+        var pending = repository.findBySequenceIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long next = repository.findLatestSequence();
+        for (OrganizationChange change : pending) {
+            change.setSequence(++next);
+        }
+        log.debug("Sequenced {} organization changes up to {}", pending.size(), next);
+        return pending.size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.orbsec.organizationservice.service;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.exceptions.ExpiredWatermarkException;
+import com.orbsec.organizationservice.execution.AdaptiveConcurrencyLimit;
+import com.orbsec.organizationservice.model.OrganizationChange;
+import com.orbsec.organizationservice.model.OrganizationChangeDto;
+import com.orbsec.organizationservice.model.OrganizationChangePage;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+/**
+ * Delta sync: the organizations created, updated or deleted after a client's watermark.
+ * Only committed entries carry a sequence, and sequences are handed out gap-free in the order they are assigned
+ * (see {@link OrganizationChangeSequencer}), so every entry at or below a returned watermark has already been read
+ * and a watermark never skips a change.
+ * Entries are kept for the retention period; a client whose watermark predates it must reload the full list.
+ */
+@Slf4j
+@Service
+public class OrganizationChangeService {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final OrganizationChangeRepository repository;
+    private final Duration retention;
+
+    @Autowired
+    public OrganizationChangeService(OrganizationChangeRepository repository,
+                                     @Value("${organization.changes.retention-days:30}") long retentionDays) {
+        this.repository = repository;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @AdaptiveConcurrencyLimit("organization-database")
+    public OrganizationChangePage findChangesSince(long since, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long watermark = Math.max(0, since);
+        log.info("Attempting to find up to {} organization changes after sequence {}", pageSize, watermark);
+        var rows = repository.findBySequenceGreaterThanOrderBySequenceAsc(watermark, PageRequest.of(0, pageSize + 1));
+        // Sequences have no gaps, so one right after the watermark means the entries the client needs were purged
+        if (!rows.isEmpty() && rows.get(0).getSequence() > watermark + 1) {
+            throw new ExpiredWatermarkException(String.format(
+                    "Changes after sequence %d are no longer retained; reload the full organization list and continue from sequence %d",
+                    watermark, rows.get(0).getSequence() - 1));
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        var page = hasMore ? rows.subList(0, pageSize) : rows;
+        // One entry per organization, ordered by its latest change
+        var latest = new LinkedHashMap<String, OrganizationChangeDto>();
+        for (OrganizationChange change : page) {
+            var previous = latest.remove(change.getOrganizationId());
+            var changeType = change.getChangeType();
+            // Created and then updated within this page is still news of a creation to the client
+            if (previous != null && previous.getChangeType() == ChangeType.CREATION && changeType == ChangeType.UPDATE) {
+                changeType = ChangeType.CREATION;
+            }
+            latest.put(change.getOrganizationId(), new OrganizationChangeDto(change.getOrganizationId(), changeType, change.getSequence()));
+        }
+        if (!page.isEmpty()) {
+            watermark = page.get(page.size() - 1).getSequence();
+        }
+        return new OrganizationChangePage(new ArrayList<>(latest.values()), watermark, hasMore);
+    }
+
+    @Scheduled(fixedDelayString = "${organization.changes.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpiredChanges() {
+        int purged = repository.deleteChangedBefore(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} organization changes older than {} days", purged, retention.toDays());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.orbsec.organizationservice.service;
+
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.model.OrganizationDetails;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Builds the organization + licenses view in one round trip.
+ * Both branches are started together and go through {@link OrganizationService}'s proxy, so each keeps its own
+ * circuit breaker and fallback: a failing database or licensing-service degrades its half of the response only.
+ * A missing organization or rejected credentials still fail the whole request, as they do on the single endpoints.
+ */
+@Slf4j
+@Service
+public class OrganizationDetailsService {
+
+    private final OrganizationService organizationService;
+    private final OrganizationTaskExecutor taskExecutor;
+
+    @Autowired
+    public OrganizationDetailsService(OrganizationService organizationService, OrganizationTaskExecutor taskExecutor) {
+        this.organizationService = organizationService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public CompletableFuture<OrganizationDetails> findDetails(String authToken, String organizationId) {
+        log.info("Attempting to fetch organization details for id: {}", organizationId);
+        var licenses = organizationService.findAllLicensesForOrganizationAsync(authToken, organizationId);
+        return findOrganization(organizationId).thenCombine(licenses, OrganizationDetails::new);
+    }
+
+    private CompletableFuture<OrganizationDto> findOrganization(String organizationId) {
+        try {
+            return taskExecutor.supplyAsync(() -> organizationService.findById(organizationId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Organization task executor saturated, fetching organization {} on the request thread", organizationId);
+            return CompletableFuture.completedFuture(organizationService.findById(organizationId));
+        }
+    }
+}
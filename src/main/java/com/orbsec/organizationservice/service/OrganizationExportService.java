@@ -0,0 +1,68 @@
+package com.orbsec.organizationservice.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.orbsec.organizationservice.model.Organization;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every organization as newline-delimited JSON straight from a database cursor.
+ * Rows are mapped, written and detached one at a time, so heap usage stays flat regardless of table size.
+ */
+@Slf4j
+@Service
+public class OrganizationExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final OrganizationRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectWriter dtoWriter;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public OrganizationExportService(OrganizationRepository repository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.dtoWriter = objectMapper.writerFor(OrganizationDto.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportAll(OutputStream out) throws IOException {
+        log.info("Attempting to export all organization records as NDJSON");
+        long exported = 0;
+        try (Stream<Organization> organizations = repository.streamAllOrderedById();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<Organization> iterator = organizations.iterator();
+            while (iterator.hasNext()) {
+                Organization organization = iterator.next();
+                dtoWriter.writeValue(generator, OrganizationMapper.toDto(organization));
+                generator.writeRaw('\n');
+                // Keep the persistence context empty; otherwise every streamed row stays referenced until commit
+                entityManager.detach(organization);
+                if (++exported % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        log.info("Exported {} organization records", exported);
+        return exported;
+    }
+}
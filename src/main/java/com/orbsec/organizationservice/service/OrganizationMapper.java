@@ -0,0 +1,49 @@
+package com.orbsec.organizationservice.service;
+
+import com.orbsec.organizationservice.model.Organization;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import org.springframework.util.Assert;
+
+/**
+ * Field-by-field mapping between {@link Organization} and {@link OrganizationDto}.
+ * Mirrors what ModelMapper's STRICT strategy produced (same-named properties only, a null source is rejected),
+ * without reflection or per-call type-map lookups. The version and last-modified columns travel with the DTO so that
+ * updates keep optimistic locking and responses can carry ETags.
+ */
+public final class OrganizationMapper {
+
+    private OrganizationMapper() {
+    }
+
+    public static OrganizationDto toDto(Organization organization) {
+        Assert.notNull(organization, "source cannot be null");
+        var organizationDto = new OrganizationDto();
+        organizationDto.setId(organization.getId());
+        organizationDto.setName(organization.getName());
+        organizationDto.setContactName(organization.getContactName());
+        organizationDto.setContactEmail(organization.getContactEmail());
+        organizationDto.setContactPhone(organization.getContactPhone());
+        organizationDto.setVersion(organization.getVersion());
+        organizationDto.setLastModified(organization.getLastModified());
+        return organizationDto;
+    }
+
+    public static Organization toEntity(OrganizationDto organizationDto) {
+        Assert.notNull(organizationDto, "source cannot be null");
+        var organization = new Organization();
+        organization.setId(organizationDto.getId());
+        organization.setName(organizationDto.getName());
+        organization.setContactName(organizationDto.getContactName());
+        organization.setContactEmail(organizationDto.getContactEmail());
+        organization.setContactPhone(organizationDto.getContactPhone());
+        organization.setVersion(organizationDto.getVersion() == null ? 0 : organizationDto.getVersion());
+        organization.setLastModified(organizationDto.getLastModified());
+        return organization;
+    }
+
+    public static OrganizationDto copy(OrganizationDto organizationDto) {
+        Assert.notNull(organizationDto, "source cannot be null");
+        return new OrganizationDto(organizationDto.getId(), organizationDto.getName(), organizationDto.getContactName(),
+                organizationDto.getContactEmail(), organizationDto.getContactPhone(), organizationDto.getVersion(), organizationDto.getLastModified());
+    }
+}
@@ -1,28 +1,45 @@
 package com.orbsec.organizationservice.service;
 
 import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.cache.LicenseCache;
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import com.orbsec.organizationservice.exceptions.InvalidContinuationToken;
 import com.orbsec.organizationservice.exceptions.MissingOrganizationException;
+import com.orbsec.organizationservice.exceptions.StaleOrganizationException;
 import com.orbsec.organizationservice.exceptions.UnauthorizedException;
-import com.orbsec.organizationservice.kafka.EventProducer;
+import com.orbsec.organizationservice.execution.AdaptiveConcurrencyLimit;
+import com.orbsec.organizationservice.execution.ConcurrencySample;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.execution.RequestCoalescer;
+import com.orbsec.organizationservice.kafka.EventOutbox;
 import com.orbsec.organizationservice.model.LicenseDTO;
 import com.orbsec.organizationservice.model.Organization;
 import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.model.OrganizationPage;
+import com.orbsec.organizationservice.model.OrganizationVersion;
 import com.orbsec.organizationservice.repository.OrganizationRepository;
+import com.orbsec.organizationservice.service.client.AsyncLicenseClient;
+import com.orbsec.organizationservice.service.client.GuardedLicenseClient;
 import com.orbsec.organizationservice.service.client.LicenseFeignClient;
 import feign.FeignException;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Service
@@ -30,101 +47,185 @@ public class OrganizationService {
 
     private final OrganizationRepository repository;
     private final LicenseFeignClient licenseFeignClient;
-    private ModelMapper modelMapper;
     private static final String FAKE_DATA = "Unable to fetch data";
-    private final EventProducer eventProducer;
+    public static final int MAX_PAGE_SIZE = 500;
+    private final EventOutbox eventOutbox;
+    private final OrganizationCache organizationCache;
+    private final LicenseCache licenseCache;
+    private final OrganizationTaskExecutor taskExecutor;
+    private final RequestCoalescer requestCoalescer;
+    private final AsyncLicenseClient asyncLicenseClient;
+    private final GuardedLicenseClient guardedLicenseClient;
+    private final UnknownOrganizationFilter unknownOrganizationFilter;
 
     @Autowired
-    public OrganizationService(OrganizationRepository repository, LicenseFeignClient licenseFeignClient, EventProducer eventProducer) {
+    public OrganizationService(OrganizationRepository repository, LicenseFeignClient licenseFeignClient, EventOutbox eventOutbox,
+                               OrganizationCache organizationCache, LicenseCache licenseCache, OrganizationTaskExecutor taskExecutor,
+                               RequestCoalescer requestCoalescer, AsyncLicenseClient asyncLicenseClient,
+                               GuardedLicenseClient guardedLicenseClient, UnknownOrganizationFilter unknownOrganizationFilter) {
         this.repository = repository;
         this.licenseFeignClient = licenseFeignClient;
-        this.eventProducer = eventProducer;
-        configureModelMapper();
+        this.eventOutbox = eventOutbox;
+        this.organizationCache = organizationCache;
+        this.licenseCache = licenseCache;
+        this.taskExecutor = taskExecutor;
+        this.requestCoalescer = requestCoalescer;
+        this.asyncLicenseClient = asyncLicenseClient;
+        this.guardedLicenseClient = guardedLicenseClient;
+        this.unknownOrganizationFilter = unknownOrganizationFilter;
     }
 
-    private void configureModelMapper() {
-        modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-    }
-
-
     private OrganizationDto mapOrganization(Organization organization) {
-        return modelMapper.map(organization, OrganizationDto.class);
+        return OrganizationMapper.toDto(organization);
     }
 
     private Organization mapDto(OrganizationDto organizationDto) {
-        return modelMapper.map(organizationDto, Organization.class);
+        return OrganizationMapper.toEntity(organizationDto);
     }
 
 //    Database calls
     @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "findByIdFallback")
     @Retry(name ="retryOrganizationDatabase", fallbackMethod = "findByIdFallback")
-    @Bulkhead(name = "bulkheadOrganizationDatabase",  fallbackMethod = "findByIdFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
     public OrganizationDto findById(String organizationId) throws MissingOrganizationException {
+        return lookupOrganization(organizationId)
+                .orElseThrow(() -> new MissingOrganizationException("No organization found for the provided id"));
+    }
+
+    /**
+     * Miss-friendly variant of {@link #findById}: an unknown id is an empty result rather than an exception,
+     * so misses skip the Retry and CircuitBreaker exception handling entirely.
+     */
+    @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "findOrganizationFallback")
+    @Retry(name ="retryOrganizationDatabase", fallbackMethod = "findOrganizationFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
+    public Optional<OrganizationDto> findOrganization(String organizationId) {
+        return lookupOrganization(organizationId);
+    }
+
+    @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "findVersionFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
+    public Optional<OrganizationVersion> findVersion(String organizationId) {
+        var cached = organizationCache.get(organizationId);
+        if (cached != null && cached.getVersion() != null) {
+            ConcurrencySample.skip();
+            return Optional.of(OrganizationVersion.of(cached.getVersion(), cached.getLastModified()));
+        }
+        if (unknownOrganizationFilter.isKnownAbsent(organizationId)) {
+            ConcurrencySample.skip();
+            return Optional.empty();
+        }
+        return repository.findVersionById(organizationId)
+                .map(version -> OrganizationVersion.of(version.getVersion(), version.getLastModified()));
+    }
+
+    @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "findCollectionVersionFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
+    public Optional<OrganizationVersion> findCollectionVersion() {
+        var version = repository.findCollectionVersion();
+        return Optional.of(OrganizationVersion.ofCollection(version.getCount(), version.getVersionSum(), version.getLastModified()));
+    }
+
+    private Optional<OrganizationDto> lookupOrganization(String organizationId) {
         log.info("Attempting to find organization record for id: {}", organizationId);
+        var cached = organizationCache.get(organizationId);
+        if (cached != null) {
+            log.info("Found cached organization record for id {}", organizationId);
+            ConcurrencySample.skip();
+            return Optional.of(cached);
+        }
+        if (unknownOrganizationFilter.isKnownAbsent(organizationId)) {
+            log.info("Organization id {} is known to be absent", organizationId);
+            ConcurrencySample.skip();
+            return Optional.empty();
+        }
+        return requestCoalescer.execute("findById", organizationId, () -> loadOrganization(organizationId),
+                organization -> organization.map(OrganizationMapper::copy));
+    }
+
+    private Optional<OrganizationDto> loadOrganization(String organizationId) {
         Optional<Organization> opt = repository.findById(organizationId);
         if (opt.isPresent()) {
             log.info("Found organization record for id {}", organizationId);
-            return mapOrganization(opt.get());
-        } else {
-            log.error("No organization found for the provided id: {}", organizationId);
-            throw new MissingOrganizationException("No organization found for the provided id");
+            var organizationDto = mapOrganization(opt.get());
+            organizationCache.put(organizationDto);
+            return Optional.of(organizationDto);
         }
+        log.info("No organization found for the provided id: {}", organizationId);
+        unknownOrganizationFilter.recordMiss(organizationId);
+        return Optional.empty();
     }
 
     @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "crudOrganizationFallback")
     @Retry(name ="retryOrganizationDatabase", fallbackMethod = "crudOrganizationFallback")
-    @Bulkhead(name = "bulkheadOrganizationDatabase", fallbackMethod = "crudOrganizationFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
+    @Transactional
     public OrganizationDto create(OrganizationDto organizationDto) {
         Organization organization = mapDto(organizationDto);
         organization.setId( UUID.randomUUID().toString());
         log.info("Attempting to create a new organization record for id: {}", organization.getId());
         Organization savedOrganization = repository.save(organization);
         log.info("Created new record with organization id {}", organization.getId());
-        eventProducer.publishNewEvent(organization.getId(), ChangeType.CREATION, String.format("A new Organization with id %s has been saved to the database.", organization.getId()));
+        unknownOrganizationFilter.recordCreated(organization.getId());
+        eventOutbox.append(organization.getId(), ChangeType.CREATION, String.format("A new Organization with id %s has been saved to the database.", organization.getId()));
         return mapOrganization(savedOrganization);
     }
 
     @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "updateOrganizationFallback")
     @Retry(name ="retryOrganizationDatabase", fallbackMethod = "updateOrganizationFallback")
-    @Bulkhead(name = "bulkheadOrganizationDatabase", fallbackMethod = "updateOrganizationFallback")
-    public OrganizationDto update(String organizationId, OrganizationDto updateDto) {
+    @AdaptiveConcurrencyLimit("organization-database")
+    @Transactional
+    public OrganizationDto update(String organizationId, OrganizationDto updateDto, Long expectedVersion) {
         log.info("Attempting to update organization record with id: {}", organizationId);
-        var existingDto = findById(organizationId);
-        existingDto.setName(updateDto.getName());
-        existingDto.setContactName(updateDto.getContactName());
-        existingDto.setContactEmail(updateDto.getContactEmail());
-        existingDto.setContactPhone(updateDto.getContactPhone());
-
-        Organization updatedRecord = mapDto(existingDto);
-        repository.save(updatedRecord);
-        log.info("Successfully updated organization record with id {}", updatedRecord.getId());
-        eventProducer.publishNewEvent(updatedRecord.getId(), ChangeType.UPDATE, String.format("Organization with id %s has been updated", updatedRecord.getId()));
-        return existingDto;
+        // One UPDATE statement instead of SELECT + merge; with an expected version it doubles as the optimistic-lock check
+        var lastModified = Instant.now();
+        int updated = expectedVersion == null
+                ? repository.updateById(organizationId, updateDto.getName(), updateDto.getContactName(),
+                        updateDto.getContactEmail(), updateDto.getContactPhone(), lastModified)
+                : repository.updateByIdAndVersion(organizationId, expectedVersion, updateDto.getName(), updateDto.getContactName(),
+                        updateDto.getContactEmail(), updateDto.getContactPhone(), lastModified);
+        if (updated == 0) {
+            // Only the failure path pays for telling a stale version apart from a missing record
+            if (expectedVersion != null && repository.existsById(organizationId)) {
+                log.error("Organization record with id {} no longer has version {}", organizationId, expectedVersion);
+                throw new StaleOrganizationException(String.format("Organization with id %s has been modified since version %d", organizationId, expectedVersion));
+            }
+            log.error("Failed to update organization record with id {}", organizationId);
+            throw new MissingOrganizationException("No organization found for the provided id");
+        }
+        organizationCache.evict(organizationId);
+        log.info("Successfully updated organization record with id {}", organizationId);
+        eventOutbox.append(organizationId, ChangeType.UPDATE, String.format("Organization with id %s has been updated", organizationId));
+        var updatedDto = new OrganizationDto(organizationId, updateDto.getName(), updateDto.getContactName(),
+                updateDto.getContactEmail(), updateDto.getContactPhone());
+        // Without If-Match the new version is unknown here; read it back (the row is still locked by this update)
+        // so the response carries an ETag the client can use for its next conditional update
+        updatedDto.setVersion(expectedVersion != null ? Long.valueOf(expectedVersion + 1)
+                : repository.findVersionById(organizationId).map(OrganizationRepository.VersionView::getVersion).orElse(null));
+        updatedDto.setLastModified(lastModified);
+        return updatedDto;
     }
 
     @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "deleteOrganizationFallback")
     @Retry(name ="retryOrganizationDatabase", fallbackMethod = "deleteOrganizationFallback")
-    @Bulkhead(name = "bulkheadOrganizationDatabase", fallbackMethod = "deleteOrganizationFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
+    @Transactional
     public String delete(String organizationId) throws MissingOrganizationException {
         log.info("Attempting to delete organization record with id: {}", organizationId);
-        String message;
-        var existingOrganization = repository.findById(organizationId);
-        if (existingOrganization.isPresent()) {
-            repository.delete(existingOrganization.get());
-            message = String.format("Organization with id %s has been deleted", organizationId);
-            log.info("Organization record with id: {} has been successfully deleted", organizationId);
-            eventProducer.publishNewEvent(organizationId, ChangeType.DELETION, String.format("Organization with id %s has been deleted", organizationId));
-        } else {
+        if (repository.deleteOrganizationById(organizationId) == 0) {
             log.error("Failed to delete organization record with id {}", organizationId);
             throw new MissingOrganizationException(String.format("No organization found for this id: %s", organizationId));
         }
-        return message;
+        organizationCache.evict(organizationId);
+        licenseCache.evict(organizationId);
+        log.info("Organization record with id: {} has been successfully deleted", organizationId);
+        eventOutbox.append(organizationId, ChangeType.DELETION, String.format("Organization with id %s has been deleted", organizationId));
+        return String.format("Organization with id %s has been deleted", organizationId);
     }
 
     @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "findAllFallback")
     @Retry(name ="retryOrganizationDatabase", fallbackMethod = "findAllFallback")
-    @Bulkhead(name = "bulkheadOrganizationDatabase", fallbackMethod = "findAllFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
     public List<OrganizationDto> findAll() {
         log.info("Attempting to find all organization records");
         var orgDtoList = new ArrayList<OrganizationDto>();
@@ -134,27 +235,137 @@ public class OrganizationService {
         return orgDtoList;
     }
 
+    @CircuitBreaker(name = "organizationDatabase", fallbackMethod = "findPageFallback")
+    @Retry(name ="retryOrganizationDatabase", fallbackMethod = "findPageFallback")
+    @AdaptiveConcurrencyLimit("organization-database")
+    public OrganizationPage findPage(String continuationToken, int limit) throws InvalidContinuationToken {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // One extra row tells us whether another page exists without issuing a count query
+        var pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Organization> rows;
+        if (continuationToken == null || continuationToken.isBlank()) {
+            log.info("Attempting to find the first page of {} organization records", pageSize);
+            rows = repository.findAllByOrderByIdAsc(pageRequest);
+        } else {
+            String lastSeenId = ContinuationToken.decode(continuationToken);
+            log.info("Attempting to find {} organization records after id: {}", pageSize, lastSeenId);
+            rows = repository.findByIdGreaterThanOrderByIdAsc(lastSeenId, pageRequest);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        var page = hasMore ? rows.subList(0, pageSize) : rows;
+        var orgDtoList = new ArrayList<OrganizationDto>(page.size());
+        page.forEach(organization -> orgDtoList.add(mapOrganization(organization)));
+        String next = hasMore ? ContinuationToken.encode(page.get(page.size() - 1).getId()) : null;
+        return new OrganizationPage(orgDtoList, next);
+    }
+
 //  Remote service calls
     @CircuitBreaker(name = "licensingService", fallbackMethod = "licensingServiceFallback")
     @Retry(name ="retryLicenseService", fallbackMethod = "licensingServiceFallback")
-    @Bulkhead(name = "bulkheadLicensingService",  fallbackMethod = "licensingServiceFallback")
+    @AdaptiveConcurrencyLimit("licensing-service")
     public List<LicenseDTO> findAllLicensesForOrganization(String authToken, String organizationId) throws UnauthorizedException {
         log.info("Attempting to find all License records for organization id: {}", organizationId);
+        var cached = cachedLicenses(authToken, organizationId);
+        if (cached != null) {
+            return cached;
+        }
         log.warn("Calling remote licensing-service via feign --> -->");
-        return licenseFeignClient.getAllLicensesForOrganization(authToken, organizationId);
+        // Keyed by token as well, so one caller's rejected credentials are never fanned out to other callers
+        return requestCoalescer.execute("findAllLicensesForOrganization", organizationId + '|' + authToken, () -> {
+            var licenses = licenseFeignClient.getAllLicensesForOrganization(authToken, organizationId);
+            licenseCache.put(organizationId, authToken, licenses);
+            return licenses;
+        });
+    }
+
+    @TimeLimiter(name = "licensingService", fallbackMethod = "licensingServiceAsyncFallback")
+    @CircuitBreaker(name = "licensingService", fallbackMethod = "licensingServiceAsyncFallback")
+    @AdaptiveConcurrencyLimit("licensing-service")
+    public CompletableFuture<List<LicenseDTO>> findAllLicensesForOrganizationAsync(String authToken, String organizationId) {
+        log.info("Attempting to find all License records asynchronously for organization id: {}", organizationId);
+        var cached = cachedLicenses(authToken, organizationId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        log.warn("Calling remote licensing-service via async feign --> -->");
+        return asyncLicenseClient.getAllLicensesForOrganization(authToken, organizationId)
+                .thenApply(licenses -> {
+                    licenseCache.put(organizationId, authToken, licenses);
+                    return licenses;
+                });
+    }
+
+    private List<LicenseDTO> cachedLicenses(String authToken, String organizationId) {
+        var cached = licenseCache.get(organizationId, authToken);
+        if (cached == null) {
+            return null;
+        }
+        var state = licenseCache.stateOf(cached);
+        if (state == LicenseCache.State.FRESH) {
+            log.info("Found cached License records for organization id {}", organizationId);
+            ConcurrencySample.skip();
+            return cached.getLicenses();
+        }
+        if (state == LicenseCache.State.STALE) {
+            log.info("Serving stale License records for organization id {} while revalidating", organizationId);
+            refreshLicensesInBackground(authToken, organizationId);
+            ConcurrencySample.skip();
+            return cached.getLicenses();
+        }
+        return null;
+    }
+
+    private void refreshLicensesInBackground(String authToken, String organizationId) {
+        if (!licenseCache.beginRefresh(organizationId, authToken)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    licenseCache.put(organizationId, authToken, guardedLicenseClient.getAllLicensesForOrganization(authToken, organizationId));
+                    log.info("Revalidated License records for organization id {}", organizationId);
+                } catch (RuntimeException e) {
+                    log.warn("Failed revalidating License records for organization id {}: {}", organizationId, e.getMessage());
+                } finally {
+                    licenseCache.endRefresh(organizationId, authToken);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            licenseCache.endRefresh(organizationId, authToken);
+            log.warn("Skipped revalidating License records for organization id {}: executor saturated", organizationId);
+        }
     }
 
 //    FallBacks
     @SuppressWarnings("unused")
     private OrganizationDto findByIdFallback(String organizationId, Throwable exception) {
         if (exception instanceof MissingOrganizationException) {
-            log.error("No organization found for the provided id: {}", organizationId);
-            throw new MissingOrganizationException("No organization found for the provided id");
+            throw (MissingOrganizationException) exception;
         }
         log.warn("CircuitBreaker: called findByIdFallback() methods ");
         return new OrganizationDto(organizationId, "Unable to fetch organization details", FAKE_DATA, FAKE_DATA, FAKE_DATA);
     }
 
+    // Without a version the caller simply answers with the full representation
+    @SuppressWarnings("unused")
+    private Optional<OrganizationVersion> findVersionFallback(String organizationId, Throwable exception) {
+        log.warn("CircuitBreaker: called findVersionFallback() method ");
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unused")
+    private Optional<OrganizationVersion> findCollectionVersionFallback(Throwable exception) {
+        log.warn("CircuitBreaker: called findCollectionVersionFallback() method ");
+        return Optional.empty();
+    }
+
+    @SuppressWarnings("unused")
+    private Optional<OrganizationDto> findOrganizationFallback(String organizationId, Throwable exception) {
+        log.warn("CircuitBreaker: called findOrganizationFallback() method ");
+        return Optional.of(new OrganizationDto(organizationId, "Unable to fetch organization details", FAKE_DATA, FAKE_DATA, FAKE_DATA));
+    }
+
     @SuppressWarnings("unused")
     private List<LicenseDTO> licensingServiceFallback(String authHeader,String organizationId, Throwable exception) {
         log.warn("CircuitBreaker: called licensingServiceFallback() with authHeader {}", authHeader);
@@ -162,6 +373,11 @@ public class OrganizationService {
             log.error("Call to remote service is unauthorized. Do you have a valid Authorization Code?");
             throw new UnauthorizedException(exception.getMessage());
         }
+        var lastKnownGood = licenseCache.get(organizationId, authHeader);
+        if (lastKnownGood != null) {
+            log.warn("Returning last known License records for organization id {}", organizationId);
+            return lastKnownGood.getLicenses();
+        }
         List<LicenseDTO> dtoList = new ArrayList<>();
         LicenseDTO licenseDTO = new LicenseDTO(
                 "Unable to fetch License details", FAKE_DATA, FAKE_DATA, FAKE_DATA,
@@ -170,6 +386,16 @@ public class OrganizationService {
         return dtoList;
     }
 
+    @SuppressWarnings("unused")
+    private CompletableFuture<List<LicenseDTO>> licensingServiceAsyncFallback(String authHeader, String organizationId, Throwable exception) {
+        var cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+        try {
+            return CompletableFuture.completedFuture(licensingServiceFallback(authHeader, organizationId, cause));
+        } catch (UnauthorizedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     @SuppressWarnings("unused")
     private List<Organization> findAllFallback(Throwable exception) {
         log.warn("CircuitBreaker: called findAllFallback() method ");
@@ -179,6 +405,16 @@ public class OrganizationService {
         return organizationList;
     }
 
+    @SuppressWarnings("unused")
+    private OrganizationPage findPageFallback(String continuationToken, int limit, Throwable exception) {
+        if (exception instanceof InvalidContinuationToken) {
+            throw (InvalidContinuationToken) exception;
+        }
+        log.warn("CircuitBreaker: called findPageFallback() method ");
+        var dummyOrganization = new OrganizationDto("Unable to fetch organization id", "Unable to fetch organization details", FAKE_DATA, FAKE_DATA, FAKE_DATA);
+        return new OrganizationPage(List.of(dummyOrganization), null);
+    }
+
     @SuppressWarnings("unused")
     private OrganizationDto crudOrganizationFallback(Throwable exception) {
         log.warn("CircuitBreaker: called crudOrganizationFallback() method ");
@@ -186,16 +422,22 @@ public class OrganizationService {
     }
 
     @SuppressWarnings("unused")
-    private OrganizationDto updateOrganizationFallback(String organizationID, OrganizationDto dto,Throwable exception) {
+    private OrganizationDto updateOrganizationFallback(String organizationID, OrganizationDto dto, Long expectedVersion, Throwable exception) {
         if (exception instanceof MissingOrganizationException) {
             throw new MissingOrganizationException(exception.getMessage());
         }
+        if (exception instanceof StaleOrganizationException) {
+            throw (StaleOrganizationException) exception;
+        }
         log.warn("CircuitBreaker: called updateOrganizationFallback() method ");
         return new OrganizationDto("Database service unavailable. Try again later!", FAKE_DATA, FAKE_DATA, FAKE_DATA, FAKE_DATA);
     }
 
     @SuppressWarnings("unused")
     private String deleteOrganizationFallback(String organizationID,Throwable exception) {
+        if (exception instanceof MissingOrganizationException) {
+            throw (MissingOrganizationException) exception;
+        }
         log.warn("CircuitBreaker: called deleteOrganizationFallback() method ");
         return "Error while processing your request: database service might be unavailable. Try again later!";
     }
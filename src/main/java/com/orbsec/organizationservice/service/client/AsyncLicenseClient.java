@@ -0,0 +1,31 @@
+package com.orbsec.organizationservice.service.client;
+
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.model.LicenseDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CompletableFuture-based variant of {@link LicenseFeignClient}.
+ * The Feign call still blocks, but on the bounded organization task pool instead of a servlet thread,
+ * so slow licensing-service responses no longer tie up request handling.
+ */
+@Component
+public class AsyncLicenseClient {
+
+    private final LicenseFeignClient licenseFeignClient;
+    private final OrganizationTaskExecutor taskExecutor;
+
+    @Autowired
+    public AsyncLicenseClient(LicenseFeignClient licenseFeignClient, OrganizationTaskExecutor taskExecutor) {
+        this.licenseFeignClient = licenseFeignClient;
+        this.taskExecutor = taskExecutor;
+    }
+
+    public CompletableFuture<List<LicenseDTO>> getAllLicensesForOrganization(String authorizationToken, String organizationId) {
+        return taskExecutor.supplyAsync(() -> licenseFeignClient.getAllLicensesForOrganization(authorizationToken, organizationId));
+    }
+}
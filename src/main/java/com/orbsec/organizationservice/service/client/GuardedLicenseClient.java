@@ -0,0 +1,32 @@
+package com.orbsec.organizationservice.service.client;
+
+import com.orbsec.organizationservice.execution.AdaptiveConcurrencyLimit;
+import com.orbsec.organizationservice.model.LicenseDTO;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Licensing-service calls whose callers handle failures themselves: revalidating a stale cached list in the
+ * background, and the per-id calls of a bulk lookup. They pass the same licensingService circuit breaker and
+ * licensing-service concurrency limit as request traffic, so neither can add load to a licensing-service that is
+ * already failing or saturated. There is no fallback: a failure, or a shed call, reaches the caller.
+ */
+@Component
+public class GuardedLicenseClient {
+
+    private final LicenseFeignClient licenseFeignClient;
+
+    @Autowired
+    public GuardedLicenseClient(LicenseFeignClient licenseFeignClient) {
+        this.licenseFeignClient = licenseFeignClient;
+    }
+
+    @CircuitBreaker(name = "licensingService")
+    @AdaptiveConcurrencyLimit("licensing-service")
+    public List<LicenseDTO> getAllLicensesForOrganization(String authorizationToken, String organizationId) {
+        return licenseFeignClient.getAllLicensesForOrganization(authorizationToken, organizationId);
+    }
+}
@@ -0,0 +1,63 @@
+package com.orbsec.organizationservice.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.orbsec.organizationservice.model.Organization;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+
+/**
+ * Shared fixtures for the JMH suites. Benchmarks run outside a Spring Boot context, so the Resilience4j aspects
+ * are not applied and the numbers describe the service code itself.
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    static Organization organization(int index) {
+        return new Organization(String.format("org-%08d", index), "Name " + index, "Contact Name", "jane.doe@example.org", "4105551212");
+    }
+
+    /** In-memory H2 database with the service's entities, behind a pooled data source like the real application. */
+    static EntityManagerFactory h2EntityManagerFactory(String databaseName) {
+        var hikariConfig = new HikariConfig();
+        hikariConfig.setJdbcUrl("jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+        hikariConfig.setUsername("sa");
+        hikariConfig.setPassword("");
+
+        var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new HikariDataSource(hikariConfig));
+        factoryBean.setPackagesToScan("com.orbsec.organizationservice.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    static void seed(EntityManagerFactory entityManagerFactory, int records) {
+        var entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < records; i++) {
+            entityManager.persist(organization(i));
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+}
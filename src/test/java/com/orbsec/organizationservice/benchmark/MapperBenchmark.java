@@ -0,0 +1,72 @@
+package com.orbsec.organizationservice.benchmark;
+
+import com.orbsec.organizationservice.model.Organization;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.service.OrganizationMapper;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflection-based ModelMapper (STRICT matching, as OrganizationService used to be configured)
+ * with the hand-written {@link OrganizationMapper} when mapping result sets of 1, 1k and 100k organizations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    int records;
+
+    private List<Organization> organizations;
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        organizations = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            organizations.add(new Organization("id-" + i, "Name " + i, "Contact Name", "jane.doe@example.org", "4105551212"));
+        }
+    }
+
+    @Benchmark
+    public List<OrganizationDto> modelMapper() {
+        var result = new ArrayList<OrganizationDto>(organizations.size());
+        organizations.forEach(organization -> result.add(modelMapper.map(organization, OrganizationDto.class)));
+        return result;
+    }
+
+    @Benchmark
+    public List<OrganizationDto> handWrittenMapper() {
+        var result = new ArrayList<OrganizationDto>(organizations.size());
+        organizations.forEach(organization -> result.add(OrganizationMapper.toDto(organization)));
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,155 @@
+package com.orbsec.organizationservice.benchmark;
+
+import com.orbsec.organizationservice.cache.LicenseCache;
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import com.orbsec.organizationservice.exceptions.MissingOrganizationException;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.execution.RequestCoalescer;
+import com.orbsec.organizationservice.kafka.EventOutbox;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+import com.orbsec.organizationservice.service.OrganizationService;
+import com.orbsec.organizationservice.service.client.AsyncLicenseClient;
+import com.orbsec.organizationservice.service.client.GuardedLicenseClient;
+import com.orbsec.organizationservice.service.client.LicenseFeignClient;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Lookups of unknown organization ids through programmatic CircuitBreaker + Retry decorators, mirroring the
+ * annotations on OrganizationService.
+ * legacyMiss reproduces the old behaviour: a stack-capturing exception that is retried, recorded by the breaker
+ * and rethrown as a new exception by the fallback. stacklessMiss is findById today (ignored by Retry/CircuitBreaker,
+ * no stack trace); optionalMiss is findOrganization, where a miss is just an empty result. filteredMiss adds the
+ * unknown-id Bloom filter; a miss it rules out is answered without the database, except for one change-log catch-up
+ * per catch-up interval.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissPathBenchmark {
+
+    static class LegacyMissingOrganizationException extends RuntimeException {
+        LegacyMissingOrganizationException(String message) {
+            super(message);
+        }
+    }
+
+    private EntityManagerFactory entityManagerFactory;
+    private OrganizationService service;
+    private OrganizationService filteredService;
+    private CircuitBreaker legacyCircuitBreaker;
+    private Retry legacyRetry;
+    private CircuitBreaker circuitBreaker;
+    private Retry retry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        entityManagerFactory = BenchmarkSupport.h2EntityManagerFactory("miss-path-benchmark");
+        BenchmarkSupport.seed(entityManagerFactory, 100);
+
+        var entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var repository = new JpaRepositoryFactory(entityManager).getRepository(OrganizationRepository.class);
+        service = newService(repository, Mockito.mock(UnknownOrganizationFilter.class));
+        var changeRepository = new JpaRepositoryFactory(entityManager).getRepository(OrganizationChangeRepository.class);
+        var unknownOrganizationFilter = new UnknownOrganizationFilter(repository, changeRepository, new JpaTransactionManager(entityManagerFactory),
+                10_000, 0.01, 1000, 10_000, 30, new SimpleMeterRegistry());
+        unknownOrganizationFilter.rebuild();
+        filteredService = newService(repository, unknownOrganizationFilter);
+
+        // A breaker that never opens, so every iteration takes the same path
+        var breakerConfig = CircuitBreakerConfig.custom().failureRateThreshold(100).minimumNumberOfCalls(Integer.MAX_VALUE);
+        legacyCircuitBreaker = CircuitBreaker.of("legacy", breakerConfig.build());
+        legacyRetry = Retry.of("legacy", RetryConfig.custom().maxAttempts(3).waitDuration(Duration.ZERO).build());
+        circuitBreaker = CircuitBreaker.of("current", breakerConfig.ignoreExceptions(MissingOrganizationException.class).build());
+        retry = Retry.of("current", RetryConfig.custom().maxAttempts(3).waitDuration(Duration.ZERO)
+                .ignoreExceptions(MissingOrganizationException.class).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public OrganizationDto legacyMiss() {
+        var organizationId = unknownId();
+        Supplier<OrganizationDto> lookup = () -> service.findOrganization(organizationId)
+                .orElseThrow(() -> new LegacyMissingOrganizationException("No organization found for the provided id"));
+        try {
+            return Retry.decorateSupplier(legacyRetry, CircuitBreaker.decorateSupplier(legacyCircuitBreaker, lookup)).get();
+        } catch (LegacyMissingOrganizationException e) {
+            try {
+                throw new LegacyMissingOrganizationException("No organization found for the provided id");
+            } catch (LegacyMissingOrganizationException rethrown) {
+                return null;
+            }
+        }
+    }
+
+    @Benchmark
+    public OrganizationDto stacklessMiss() {
+        var organizationId = unknownId();
+        try {
+            return Retry.decorateSupplier(retry, CircuitBreaker.decorateSupplier(circuitBreaker, () -> service.findById(organizationId))).get();
+        } catch (MissingOrganizationException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public Optional<OrganizationDto> optionalMiss() {
+        var organizationId = unknownId();
+        return Retry.decorateSupplier(retry, CircuitBreaker.decorateSupplier(circuitBreaker, () -> service.findOrganization(organizationId))).get();
+    }
+
+    @Benchmark
+    public Optional<OrganizationDto> filteredMiss() {
+        var organizationId = unknownId();
+        return Retry.decorateSupplier(retry, CircuitBreaker.decorateSupplier(circuitBreaker, () -> filteredService.findOrganization(organizationId))).get();
+    }
+
+    private static OrganizationService newService(OrganizationRepository repository, UnknownOrganizationFilter unknownOrganizationFilter) {
+        return new OrganizationService(repository, Mockito.mock(LicenseFeignClient.class), Mockito.mock(EventOutbox.class),
+                new OrganizationCache(10_000, 300, new SimpleMeterRegistry()), Mockito.mock(LicenseCache.class),
+                Mockito.mock(OrganizationTaskExecutor.class), new RequestCoalescer(true, new SimpleMeterRegistry()),
+                Mockito.mock(AsyncLicenseClient.class), Mockito.mock(GuardedLicenseClient.class),
+                unknownOrganizationFilter);
+    }
+
+    private static String unknownId() {
+        return "missing-" + ThreadLocalRandom.current().nextInt(1_000_000);
+    }
+}
@@ -0,0 +1,88 @@
+package com.orbsec.organizationservice.benchmark;
+
+import com.orbsec.organizationservice.cache.LicenseCache;
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.execution.RequestCoalescer;
+import com.orbsec.organizationservice.kafka.EventOutbox;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+import com.orbsec.organizationservice.service.OrganizationService;
+import com.orbsec.organizationservice.service.client.AsyncLicenseClient;
+import com.orbsec.organizationservice.service.client.GuardedLicenseClient;
+import com.orbsec.organizationservice.service.client.LicenseFeignClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findById / findAll against an in-memory H2 database. The cache parameter toggles the local organization cache;
+ * with it disabled (zero TTL) every findById is a database round-trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrganizationServiceBenchmark {
+
+    @Param({"1000"})
+    int records;
+
+    @Param({"false", "true"})
+    boolean cached;
+
+    private EntityManagerFactory entityManagerFactory;
+    private OrganizationService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        entityManagerFactory = BenchmarkSupport.h2EntityManagerFactory("service-benchmark");
+        BenchmarkSupport.seed(entityManagerFactory, records);
+
+        var entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var repository = new JpaRepositoryFactory(entityManager).getRepository(OrganizationRepository.class);
+        var cache = new OrganizationCache(10_000, cached ? 300 : 0, new SimpleMeterRegistry());
+        service = new OrganizationService(repository, Mockito.mock(LicenseFeignClient.class), Mockito.mock(EventOutbox.class), cache,
+                Mockito.mock(LicenseCache.class), Mockito.mock(OrganizationTaskExecutor.class), new RequestCoalescer(true, new SimpleMeterRegistry()),
+                Mockito.mock(AsyncLicenseClient.class), Mockito.mock(GuardedLicenseClient.class),
+                Mockito.mock(UnknownOrganizationFilter.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public OrganizationDto findById() {
+        return service.findById(BenchmarkSupport.organization(ThreadLocalRandom.current().nextInt(records)).getId());
+    }
+
+    @Benchmark
+    public List<OrganizationDto> findAll() {
+        return service.findAll();
+    }
+}
@@ -0,0 +1,93 @@
+package com.orbsec.organizationservice.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import com.orbsec.organizationservice.kafka.serializer.EventDeserializer;
+import com.orbsec.organizationservice.kafka.serializer.EventSerializer;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.service.OrganizationMapper;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization costs on the write and read paths: Kafka event encoding and the JSON body of /all.
+ * serializeEventJson reproduces the former JSON-with-mixin EventSerializer as a baseline for the Avro encoder;
+ * the benchmarks profile runs with -prof gc, so gc.alloc.rate.norm gives allocated bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"100", "10000"})
+    int records;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EventSerializer eventSerializer = new EventSerializer();
+    private final EventDeserializer eventDeserializer = new EventDeserializer();
+    private byte[] encodedEvent;
+    private final RecordHeaders headers = new RecordHeaders();
+    private OrganizationChangeEvent event;
+    private List<OrganizationDto> organizations;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        event = new OrganizationChangeEvent("org-00000042", ChangeType.UPDATE, "Organization with id org-00000042 has been updated");
+        encodedEvent = eventSerializer.serialize("organization_events", event);
+        organizations = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            organizations.add(OrganizationMapper.toDto(BenchmarkSupport.organization(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEvent() {
+        return eventSerializer.serialize("organization_events", headers, event);
+    }
+
+    @Benchmark
+    public byte[] serializeEventJson() throws JsonProcessingException {
+        // The old serializer registered the mixin on every call
+        objectMapper.addMixIn(OrganizationChangeEvent.class, IgnoreSchemaProperty.class);
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public OrganizationChangeEvent deserializeEvent() {
+        return eventDeserializer.deserialize("organization_events", encodedEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeOrganizationList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(organizations);
+    }
+
+    abstract static class IgnoreSchemaProperty {
+        @JsonIgnore
+        abstract void getSchema();
+
+        @JsonIgnore
+        abstract void getSpecificData();
+    }
+}
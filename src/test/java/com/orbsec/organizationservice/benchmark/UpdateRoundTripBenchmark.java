@@ -0,0 +1,140 @@
+package com.orbsec.organizationservice.benchmark;
+
+import com.orbsec.organizationservice.cache.LicenseCache;
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.execution.RequestCoalescer;
+import com.orbsec.organizationservice.kafka.EventOutbox;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+import com.orbsec.organizationservice.service.OrganizationMapper;
+import com.orbsec.organizationservice.service.OrganizationService;
+import com.orbsec.organizationservice.service.client.AsyncLicenseClient;
+import com.orbsec.organizationservice.service.client.GuardedLicenseClient;
+import com.orbsec.organizationservice.service.client.LicenseFeignClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Organization updates in a transaction against an in-memory H2 database, with the organization cache disabled.
+ * readThenWrite reproduces the previous update (findById, mutate the DTO, map it back, save through merge);
+ * singleStatement is OrganizationService.update today without If-Match: the UPDATE plus a version-only read-back
+ * for the ETag. The JDBC statements each variant issues are counted from Hibernate's statistics and reported as
+ * the "statements" and "updates" secondary results, so statements per update can be read from the JSON output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateRoundTripBenchmark {
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounters {
+        public long updates;
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            updates = 0;
+            statements = 0;
+        }
+    }
+
+    @Param({"1000"})
+    int records;
+
+    private EntityManagerFactory entityManagerFactory;
+    private OrganizationRepository repository;
+    private OrganizationService service;
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        entityManagerFactory = BenchmarkSupport.h2EntityManagerFactory("update-benchmark");
+        BenchmarkSupport.seed(entityManagerFactory, records);
+
+        var entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        repository = new JpaRepositoryFactory(entityManager).getRepository(OrganizationRepository.class);
+        service = new OrganizationService(repository, Mockito.mock(LicenseFeignClient.class), Mockito.mock(EventOutbox.class),
+                new OrganizationCache(10_000, 0, new SimpleMeterRegistry()), Mockito.mock(LicenseCache.class),
+                Mockito.mock(OrganizationTaskExecutor.class), new RequestCoalescer(true, new SimpleMeterRegistry()),
+                Mockito.mock(AsyncLicenseClient.class), Mockito.mock(GuardedLicenseClient.class),
+                Mockito.mock(UnknownOrganizationFilter.class));
+        // Outside a Spring context @Transactional is not applied, so the benchmark supplies the transaction
+        transaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public OrganizationDto readThenWrite(StatementCounters counters) {
+        var updateDto = updateDto();
+        long before = statistics.getPrepareStatementCount();
+        var result = transaction.execute(status -> {
+            var existingDto = OrganizationMapper.toDto(repository.findById(updateDto.getId()).orElseThrow());
+            existingDto.setName(updateDto.getName());
+            existingDto.setContactName(updateDto.getContactName());
+            existingDto.setContactEmail(updateDto.getContactEmail());
+            existingDto.setContactPhone(updateDto.getContactPhone());
+            repository.save(OrganizationMapper.toEntity(existingDto));
+            return existingDto;
+        });
+        count(counters, before);
+        return result;
+    }
+
+    @Benchmark
+    public OrganizationDto singleStatement(StatementCounters counters) {
+        var updateDto = updateDto();
+        long before = statistics.getPrepareStatementCount();
+        var result = transaction.execute(status -> service.update(updateDto.getId(), updateDto, null));
+        count(counters, before);
+        return result;
+    }
+
+    private void count(StatementCounters counters, long statementsBefore) {
+        counters.updates++;
+        counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+    }
+
+    private OrganizationDto updateDto() {
+        int index = ThreadLocalRandom.current().nextInt(records);
+        return new OrganizationDto(BenchmarkSupport.organization(index).getId(), "Renamed " + index, "Contact Name",
+                "jane.doe@example.org", "4105551212");
+    }
+}
@@ -0,0 +1,42 @@
+package com.orbsec.organizationservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.orbsec.organizationservice.model.LicenseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class LicenseCacheTest {
+
+    private final LicenseCache licenseCache = new LicenseCache(100, 60, 300, 3600, new SimpleMeterRegistry());
+
+    @Test
+    void itShouldOnlyServeEntriesToTheCredentialThatFetchedThem() {
+        // Given
+        licenseCache.put("12342", "Bearer tenant-a", List.of(new LicenseDTO()));
+
+        // When / Then
+        assertEquals(1, licenseCache.get("12342", "Bearer tenant-a").getLicenses().size());
+        assertNull(licenseCache.get("12342", "Bearer tenant-b"));
+        assertNull(licenseCache.get("12342", null));
+    }
+
+    @Test
+    void itShouldEvictEveryCallersEntryForAnOrganization() {
+        // Given
+        licenseCache.put("12342", "Bearer tenant-a", List.of(new LicenseDTO()));
+        licenseCache.put("12342", "Bearer tenant-b", List.of(new LicenseDTO()));
+        licenseCache.put("123420", "Bearer tenant-a", List.of(new LicenseDTO()));
+
+        // When
+        licenseCache.evict("12342");
+
+        // Then
+        assertNull(licenseCache.get("12342", "Bearer tenant-a"));
+        assertNull(licenseCache.get("12342", "Bearer tenant-b"));
+        assertEquals(1, licenseCache.get("123420", "Bearer tenant-a").getLicenses().size());
+    }
+}
@@ -0,0 +1,43 @@
+package com.orbsec.organizationservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.orbsec.organizationservice.model.OrganizationDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class OrganizationCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OrganizationCache organizationCache = new OrganizationCache(100, 60, meterRegistry);
+
+    @Test
+    void itShouldReturnCopiesOfCachedRecords() {
+        // Given
+        OrganizationDto organizationDto = new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        organizationCache.put(organizationDto);
+
+        // When
+        OrganizationDto cached = organizationCache.get("12342");
+        cached.setName("Changed by caller");
+
+        // Then
+        assertNotSame(organizationDto, cached);
+        assertEquals("Name", organizationCache.get("12342").getName());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "organizations").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void itShouldEvictRecord() {
+        // Given
+        organizationCache.put(new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212"));
+
+        // When
+        organizationCache.evict("12342");
+
+        // Then
+        assertNull(organizationCache.get("12342"));
+    }
+}
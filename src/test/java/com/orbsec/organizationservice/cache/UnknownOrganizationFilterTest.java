@@ -0,0 +1,136 @@
+package com.orbsec.organizationservice.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.model.OrganizationChange;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+class UnknownOrganizationFilterTest {
+
+    private final OrganizationRepository organizationRepository = mock(OrganizationRepository.class);
+    private final OrganizationChangeRepository changeRepository = mock(OrganizationChangeRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // No catch-up interval: every filter negative catches up with the change log first
+    private final UnknownOrganizationFilter unknownOrganizationFilter = new UnknownOrganizationFilter(organizationRepository,
+            changeRepository, mock(PlatformTransactionManager.class), 1000, 0.01, 0, 100, 30, meterRegistry);
+
+    @Test
+    void itShouldTreatEveryIdAsPossiblyPresentUntilBuilt() {
+        assertFalse(unknownOrganizationFilter.isKnownAbsent("12342"));
+    }
+
+    @Test
+    void itShouldRejectIdsThatWereNeverCreated() {
+        // Given
+        when(organizationRepository.count()).thenReturn(2L);
+        when(organizationRepository.streamAllIds()).thenReturn(Stream.of("12342", "12343"));
+
+        // When
+        unknownOrganizationFilter.rebuild();
+
+        // Then
+        assertEquals(2, unknownOrganizationFilter.indexedIds());
+        assertFalse(unknownOrganizationFilter.isKnownAbsent("12342"));
+        assertFalse(unknownOrganizationFilter.isKnownAbsent("12343"));
+        assertTrue(unknownOrganizationFilter.isKnownAbsent("unknown-id"));
+        assertEquals(1.0, meterRegistry.get("organization.unknown-id.rejected").tag("source", "bloom-filter").counter().count());
+    }
+
+    @Test
+    void itShouldAcceptCreatedIdsAndForgetRecordedMisses() {
+        // Given
+        when(organizationRepository.streamAllIds()).thenReturn(Stream.empty());
+        unknownOrganizationFilter.rebuild();
+        unknownOrganizationFilter.recordMiss("12344");
+        assertTrue(unknownOrganizationFilter.isKnownAbsent("12344"));
+
+        // When
+        unknownOrganizationFilter.recordCreated("12344");
+
+        // Then
+        assertFalse(unknownOrganizationFilter.isKnownAbsent("12344"));
+    }
+
+    @Test
+    void itShouldCatchUpWithIdsCreatedElsewhereBeforeRejecting() {
+        // Given
+        when(changeRepository.findLatestSequence()).thenReturn(5L);
+        when(organizationRepository.streamAllIds()).thenReturn(Stream.of("12342"));
+        unknownOrganizationFilter.rebuild();
+        var created = new OrganizationChange("created-on-another-replica", ChangeType.CREATION);
+        created.setSequence(6L);
+        when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(eq(5L), any())).thenReturn(List.of(created));
+
+        // When
+        // Then
+        assertFalse(unknownOrganizationFilter.isKnownAbsent("created-on-another-replica"));
+        assertEquals(2, unknownOrganizationFilter.indexedIds());
+        assertTrue(unknownOrganizationFilter.isKnownAbsent("unknown-id"));
+    }
+
+    @Test
+    void itShouldNotTrustTheFilterWhenItCannotCatchUp() {
+        // Given
+        when(organizationRepository.streamAllIds()).thenReturn(Stream.empty());
+        unknownOrganizationFilter.rebuild();
+        when(changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any())).thenThrow(new IllegalStateException("database unavailable"));
+
+        // When
+        // Then
+        assertFalse(unknownOrganizationFilter.isKnownAbsent("unknown-id"));
+    }
+
+    @Test
+    void itShouldTrustARecentlyCaughtUpFilterWithoutQueryingTheChangeLog() {
+        // Given
+        var rateLimitedFilter = new UnknownOrganizationFilter(organizationRepository, changeRepository,
+                mock(PlatformTransactionManager.class), 1000, 0.01, 60_000, 100, 30, meterRegistry);
+        when(organizationRepository.streamAllIds()).thenReturn(Stream.of("12342"));
+        rateLimitedFilter.rebuild();
+
+        // When
+        // Then
+        assertTrue(rateLimitedFilter.isKnownAbsent("unknown-id"));
+        assertTrue(rateLimitedFilter.isKnownAbsent("unknown-id"));
+        verify(changeRepository, never()).findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any());
+        assertEquals(1.0, meterRegistry.get("organization.unknown-id.rejected").tag("source", "bloom-filter").counter().count());
+        assertEquals(1.0, meterRegistry.get("organization.unknown-id.rejected").tag("source", "negative-cache").counter().count());
+    }
+
+    @Test
+    void itShouldKeepTheFalsePositiveRateNearTarget() {
+        // Given
+        var bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.add("present-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,89 @@
+package com.orbsec.organizationservice.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.orbsec.organizationservice.execution.AdaptiveConcurrencyProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+class ConnectionPoolMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HikariDataSource dataSource = new HikariDataSource();
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void itShouldReportSaturationAndRecommendALargerPool() {
+        // Given
+        var monitor = newMonitor(dataSource, 20);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            monitor.record(10, 0, 5);
+        }
+        var advice = monitor.advise();
+
+        // Then
+        assertTrue(advice.isSaturated());
+        assertEquals(1.0, meterRegistry.get("organization.datasource.pool.saturation").counter().count());
+        assertEquals(15, advice.getPeakDemand());
+        assertEquals(17, advice.getRecommendedMaximumPoolSize());
+        assertEquals(3, meterRegistry.get("organization.datasource.pool.connections").tag("state", "pending").summary().count());
+    }
+
+    @Test
+    void itShouldNeverRecommendMoreThanTheConcurrencyLimiterAdmits() {
+        // Given
+        var monitor = newMonitor(dataSource, 8);
+
+        // When
+        monitor.record(10, 0, 30);
+
+        // Then
+        assertEquals(10, monitor.advise().getRecommendedMaximumPoolSize());
+    }
+
+    @Test
+    void itShouldClearSaturationOnceNoThreadWaits() {
+        // Given
+        var monitor = newMonitor(dataSource, 20);
+        for (int i = 0; i < 3; i++) {
+            monitor.record(10, 0, 1);
+        }
+
+        // When
+        monitor.record(2, 8, 0);
+
+        // Then
+        var advice = monitor.advise();
+        assertFalse(advice.isSaturated());
+        assertEquals(11, advice.getPeakDemand());
+        assertEquals(2, advice.getActiveConnections());
+    }
+
+    @Test
+    void itShouldExplainWhenTheDataSourceIsNotHikari() {
+        var advice = newMonitor(mock(DataSource.class), 20).advise();
+        assertEquals("Data source is not a HikariCP pool", advice.getReason());
+    }
+
+    private ConnectionPoolMonitor newMonitor(DataSource dataSource, int concurrencyMaxLimit) {
+        this.dataSource.setMaximumPoolSize(10);
+        var properties = new AdaptiveConcurrencyProperties();
+        var limiter = new AdaptiveConcurrencyProperties.Limiter();
+        limiter.setMaxLimit(concurrencyMaxLimit);
+        properties.getLimiters().put(ConnectionPoolMonitor.LIMITER, limiter);
+        return new ConnectionPoolMonitor(dataSource, meterRegistry, properties, 1000, 300, 3, 2);
+    }
+}
@@ -0,0 +1,158 @@
+package com.orbsec.organizationservice.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.orbsec.organizationservice.exceptions.MissingOrganizationException;
+import com.orbsec.organizationservice.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class AdaptiveConcurrencyAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    static class SlowBackend {
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        @AdaptiveConcurrencyLimit("backend")
+        public CompletableFuture<String> call() {
+            return pending;
+        }
+    }
+
+    static class FlakyBackend {
+        @AdaptiveConcurrencyLimit("flaky")
+        public String fail() {
+            throw new IllegalStateException("connection refused");
+        }
+
+        @AdaptiveConcurrencyLimit("flaky")
+        public String miss() {
+            throw new MissingOrganizationException("No organization found for the provided id");
+        }
+
+        @AdaptiveConcurrencyLimit("flaky")
+        public String cached() {
+            ConcurrencySample.skip();
+            return "cached";
+        }
+    }
+
+    // Answers the caller at once, as a TimeLimiter fallback does, while the backend call keeps running
+    @Aspect
+    static class EarlyAnswerAspect {
+        @Around("@annotation(com.orbsec.organizationservice.execution.AdaptiveConcurrencyLimit)")
+        public Object answerEarly(ProceedingJoinPoint joinPoint) throws Throwable {
+            joinPoint.proceed();
+            return CompletableFuture.completedFuture("fallback");
+        }
+    }
+
+    private FlakyBackend flakyBackend() {
+        var properties = new AdaptiveConcurrencyProperties();
+        var settings = new AdaptiveConcurrencyProperties.Limiter();
+        settings.setInitialLimit(10);
+        settings.setIgnoreExceptions(List.of(MissingOrganizationException.class));
+        properties.getLimiters().put("flaky", settings);
+        var proxyFactory = new AspectJProxyFactory(new FlakyBackend());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AdaptiveConcurrencyAspect(properties, meterRegistry));
+        proxyFactory.addAspect(new AdaptiveConcurrencyOutcomeAspect());
+        return proxyFactory.getProxy();
+    }
+
+    private double limit(String name) {
+        return meterRegistry.get("organization.concurrency.limit").tag("limiter", name).gauge().value();
+    }
+
+    @Test
+    void itShouldShedCallsWhileAsyncWorkHoldsTheLimit() {
+        // Given
+        var properties = new AdaptiveConcurrencyProperties();
+        var settings = new AdaptiveConcurrencyProperties.Limiter();
+        settings.setInitialLimit(1);
+        properties.getLimiters().put("backend", settings);
+        var proxyFactory = new AspectJProxyFactory(new SlowBackend());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AdaptiveConcurrencyAspect(properties, meterRegistry));
+        SlowBackend backend = proxyFactory.getProxy();
+
+        // When
+        var first = backend.call();
+
+        // Then
+        assertThrows(ServiceOverloadedException.class, backend::call);
+        assertEquals(1.0, meterRegistry.get("organization.concurrency.rejected").tag("limiter", "backend").counter().count());
+
+        // When
+        first.complete("done");
+
+        // Then
+        assertEquals(0.0, meterRegistry.get("organization.concurrency.in-flight").tag("limiter", "backend").gauge().value());
+    }
+
+    @Test
+    void itShouldShrinkTheLimitWhenTheBackendFails() {
+        // Given
+        var backend = flakyBackend();
+
+        // When
+        assertThrows(IllegalStateException.class, backend::fail);
+
+        // Then
+        assertEquals(9.0, limit("flaky"));
+        assertEquals(0.0, meterRegistry.get("organization.concurrency.in-flight").tag("limiter", "flaky").gauge().value());
+    }
+
+    @Test
+    void itShouldNotSampleCacheHitsOrTreatClientOutcomesAsFailures() {
+        // Given
+        var backend = flakyBackend();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            backend.cached();
+        }
+        assertThrows(MissingOrganizationException.class, backend::miss);
+
+        // Then
+        assertEquals(10.0, limit("flaky"));
+    }
+
+    @Test
+    void itShouldHoldTheLimitUntilTheBackendCallFinishesAfterAnEarlyAnswer() {
+        // Given
+        var properties = new AdaptiveConcurrencyProperties();
+        var settings = new AdaptiveConcurrencyProperties.Limiter();
+        settings.setInitialLimit(1);
+        properties.getLimiters().put("backend", settings);
+        var target = new SlowBackend();
+        var proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AdaptiveConcurrencyAspect(properties, meterRegistry));
+        proxyFactory.addAspect(new EarlyAnswerAspect());
+        proxyFactory.addAspect(new AdaptiveConcurrencyOutcomeAspect());
+        SlowBackend backend = proxyFactory.getProxy();
+
+        // When
+        var answered = backend.call();
+
+        // Then
+        assertEquals("fallback", answered.join());
+        assertThrows(ServiceOverloadedException.class, backend::call);
+
+        // When
+        target.pending.complete("done");
+
+        // Then
+        assertEquals(0.0, meterRegistry.get("organization.concurrency.in-flight").tag("limiter", "backend").gauge().value());
+    }
+}
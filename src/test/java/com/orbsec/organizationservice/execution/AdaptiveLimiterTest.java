@@ -0,0 +1,95 @@
+package com.orbsec.organizationservice.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class AdaptiveLimiterTest {
+
+    private final AdaptiveConcurrencyProperties.Limiter settings = new AdaptiveConcurrencyProperties.Limiter();
+
+    @Test
+    void itShouldRejectCallsBeyondTheCurrentLimit() {
+        // Given
+        settings.setInitialLimit(2);
+        var limiter = new AdaptiveLimiter(settings);
+
+        // When
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // Then
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void itShouldGrowWhileFastAndShrinkWhenSlow() {
+        // Given
+        settings.setInitialLimit(10);
+        settings.setLatencyThreshold(Duration.ofMillis(100));
+        var limiter = new AdaptiveLimiter(settings);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        limiter.release(Duration.ofMillis(5).toNanos());
+
+        // Then
+        assertEquals(11, limiter.getLimit());
+
+        // When
+        limiter.release(Duration.ofSeconds(1).toNanos());
+
+        // Then
+        assertEquals(9, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void itShouldStayWithinBounds() {
+        // Given
+        settings.setInitialLimit(2);
+        settings.setMinLimit(2);
+        settings.setLatencyThreshold(Duration.ZERO);
+        var limiter = new AdaptiveLimiter(settings);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(Duration.ofSeconds(1).toNanos());
+        }
+
+        // Then
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void itShouldBackOffOnDropsAndLeaveUnsampledCallsAlone() {
+        // Given
+        settings.setInitialLimit(10);
+        var limiter = new AdaptiveLimiter(settings);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        limiter.releaseWithoutSample();
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+        assertEquals(9, limiter.getInFlight());
+
+        // When
+        limiter.drop();
+
+        // Then
+        assertEquals(9, limiter.getLimit());
+        assertEquals(8, limiter.getInFlight());
+    }
+}
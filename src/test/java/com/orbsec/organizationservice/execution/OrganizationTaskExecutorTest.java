@@ -0,0 +1,49 @@
+package com.orbsec.organizationservice.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class OrganizationTaskExecutorTest {
+
+    @Test
+    void itShouldUseVirtualThreadsOnlyWhenTheRuntimeSupportsThem() {
+        // When
+        var taskExecutor = new OrganizationTaskExecutor(ExecutionMode.VIRTUAL, 1, 1, 1, 10, new SimpleMeterRegistry());
+
+        // Then
+        assertEquals(VirtualThreads.isSupported() ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM, taskExecutor.getMode());
+        taskExecutor.shutdown();
+    }
+
+    @Test
+    void itShouldRejectWorkBeyondItsBound() throws Exception {
+        // Given
+        var taskExecutor = new OrganizationTaskExecutor(ExecutionMode.PLATFORM, 1, 1, 1, 1, new SimpleMeterRegistry());
+        var release = new CountDownLatch(1);
+        var running = taskExecutor.supplyAsync(() -> await(release));
+        var queued = taskExecutor.supplyAsync(() -> await(release));
+
+        // When / Then
+        assertThrows(RejectedExecutionException.class, () -> taskExecutor.supplyAsync(() -> await(release)));
+        release.countDown();
+        assertEquals(Boolean.TRUE, running.get(5, TimeUnit.SECONDS));
+        assertEquals(Boolean.TRUE, queued.get(5, TimeUnit.SECONDS));
+        taskExecutor.shutdown();
+    }
+
+    private static Boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
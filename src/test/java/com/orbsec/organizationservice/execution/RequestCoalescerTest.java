@@ -0,0 +1,119 @@
+package com.orbsec.organizationservice.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.orbsec.organizationservice.exceptions.MissingOrganizationException;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.service.OrganizationMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(true, meterRegistry);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void itShouldCollapseConcurrentCallsIntoOneBackendCall() throws Exception {
+        // Given
+        var backendCalls = new AtomicInteger();
+        var leaderStarted = new CountDownLatch(1);
+        var releaseLeader = new CountDownLatch(1);
+        Future<OrganizationDto> leader = executor.submit(() -> requestCoalescer.execute("findById", "12342", () -> {
+            backendCalls.incrementAndGet();
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        }, OrganizationMapper::copy));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        // When
+        var follower = new Thread(() -> {
+            var result = requestCoalescer.execute("findById", "12342", () -> {
+                backendCalls.incrementAndGet();
+                return null;
+            }, OrganizationMapper::copy);
+            assertEquals("Name", result.getName());
+        });
+        follower.start();
+        waitForFollower();
+        releaseLeader.countDown();
+        follower.join(5_000);
+
+        // Then
+        assertEquals(1, backendCalls.get());
+        assertEquals("Name", leader.get(5, TimeUnit.SECONDS).getName());
+        assertEquals(1.0, meterRegistry.get("organization.requests.coalescing").tag("role", "follower").counter().count());
+        assertEquals(0, requestCoalescer.inFlightCount());
+    }
+
+    @Test
+    void itShouldGiveFollowersTheirOwnCopy() throws Exception {
+        // Given
+        var releaseLeader = new CountDownLatch(1);
+        var leaderStarted = new CountDownLatch(1);
+        var shared = new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        Future<OrganizationDto> leader = executor.submit(() -> requestCoalescer.execute("findById", "12342", () -> {
+            leaderStarted.countDown();
+            await(releaseLeader);
+            return shared;
+        }, OrganizationMapper::copy));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        // When
+        var followerResult = new OrganizationDto[1];
+        var follower = new Thread(() -> followerResult[0] = requestCoalescer.execute("findById", "12342", () -> null, OrganizationMapper::copy));
+        follower.start();
+        waitForFollower();
+        releaseLeader.countDown();
+        follower.join(5_000);
+
+        // Then
+        assertEquals(shared, leader.get(5, TimeUnit.SECONDS));
+        assertNotSame(shared, followerResult[0]);
+    }
+
+    @Test
+    void itShouldPropagateLeaderFailureAndForgetTheKey() {
+        // When
+        assertThrows(MissingOrganizationException.class, () -> requestCoalescer.execute("findById", "42", () -> {
+            throw new MissingOrganizationException("No organization found for the provided id");
+        }));
+
+        // Then
+        assertEquals(0, requestCoalescer.inFlightCount());
+        assertEquals("Name", requestCoalescer.execute("findById", "42", () -> "Name"));
+    }
+
+    private void waitForFollower() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find("organization.requests.coalescing").tag("role", "follower").counter() == null
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.orbsec.organizationservice.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.util.List;
+
+class EventProducerTest {
+
+    private KafkaTemplate<String, OrganizationChangeEvent> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private EventProducer eventProducer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = (KafkaTemplate<String, OrganizationChangeEvent>) mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        eventProducer = new EventProducer(kafkaTemplate, new NewTopic("organization_events", 1, (short) 1), meterRegistry, 10);
+    }
+
+    @Test
+    void itShouldCompleteOnceEveryEventIsAcknowledged() {
+        // Given
+        SettableListenableFuture<SendResult<String, OrganizationChangeEvent>> first = new SettableListenableFuture<>();
+        SettableListenableFuture<SendResult<String, OrganizationChangeEvent>> second = new SettableListenableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrganizationChangeEvent.class))).thenReturn(first, second);
+
+        // When
+        var acknowledged = eventProducer.publishAcknowledged(List.of(
+                new OrganizationChangeEvent("1", ChangeType.CREATION, "created"),
+                new OrganizationChangeEvent("2", ChangeType.UPDATE, "updated")));
+        first.set(null);
+
+        // Then
+        assertFalse(acknowledged.isDone());
+        second.set(null);
+        assertTrue(acknowledged.isDone());
+        verify(kafkaTemplate).send(eq("organization_events"), eq("1"), any(OrganizationChangeEvent.class));
+        assertEquals(2, meterRegistry.get("organization.events.send").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void itShouldFailTheBatchWhenASendFails() {
+        // Given
+        SettableListenableFuture<SendResult<String, OrganizationChangeEvent>> failed = new SettableListenableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrganizationChangeEvent.class))).thenReturn(failed);
+
+        // When
+        var acknowledged = eventProducer.publishAcknowledged(List.of(new OrganizationChangeEvent("1", ChangeType.DELETION, "deleted")));
+        failed.setException(new IllegalStateException("broker unavailable"));
+
+        // Then
+        assertTrue(acknowledged.isCompletedExceptionally());
+        assertEquals(1, meterRegistry.get("organization.events.send").tag("outcome", "failure").timer().count());
+        assertEquals(0.0, meterRegistry.get("organization.events.in-flight").gauge().value());
+    }
+}
@@ -0,0 +1,44 @@
+package com.orbsec.organizationservice.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+
+class KafkaProducerConfigTest {
+
+    @Test
+    void itShouldApplyLowLatencyProfile() {
+        // Given
+        ProducerTuningProperties tuning = new ProducerTuningProperties();
+        tuning.setProfile(ProducerTuningProperties.Profile.LOW_LATENCY);
+
+        // When
+        Map<String, Object> properties = KafkaProducerConfig.tunedProperties(tuning);
+
+        // Then
+        assertEquals(0, properties.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals("1", properties.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(false, properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals(1, properties.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+    }
+
+    @Test
+    void itShouldLetOverridesWinOverProfile() {
+        // Given
+        ProducerTuningProperties tuning = new ProducerTuningProperties();
+        tuning.setLinger(Duration.ofMillis(5));
+        tuning.setCompression("lz4");
+
+        // When
+        Map<String, Object> properties = KafkaProducerConfig.tunedProperties(tuning);
+
+        // Then
+        assertEquals(5, properties.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals("lz4", properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals("all", properties.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(262144, properties.get(ProducerConfig.BATCH_SIZE_CONFIG));
+    }
+}
@@ -0,0 +1,46 @@
+package com.orbsec.organizationservice.kafka.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.avro.OrganizationChangeEvent;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+
+class EventSerializerTest {
+
+    private final EventSerializer serializer = new EventSerializer();
+    private final EventDeserializer deserializer = new EventDeserializer();
+
+    @Test
+    void itShouldRoundTripEvent() {
+        // Given
+        OrganizationChangeEvent event = new OrganizationChangeEvent("12342", ChangeType.DELETION, "Organization with id 12342 has been deleted");
+
+        // When
+        byte[] encoded = serializer.serialize("organization_events", new RecordHeaders(), event);
+        OrganizationChangeEvent decoded = deserializer.deserialize("organization_events", encoded);
+
+        // Then
+        assertTrue(encoded.length < 60);
+        assertEquals("12342", decoded.getOrganizationId().toString());
+        assertEquals(ChangeType.DELETION, decoded.getChangeType());
+        assertEquals("Organization with id 12342 has been deleted", decoded.getDescription().toString());
+    }
+
+    @Test
+    void itShouldEncodeEachEventIndependently() {
+        // Given
+        byte[] first = serializer.serialize("organization_events", new OrganizationChangeEvent("1", ChangeType.CREATION, "a longer description"));
+
+        // When
+        byte[] second = serializer.serialize("organization_events", new OrganizationChangeEvent("2", ChangeType.UPDATE, "short"));
+
+        // Then
+        assertEquals("a longer description", deserializer.deserialize("organization_events", first).getDescription().toString());
+        assertEquals("short", deserializer.deserialize("organization_events", second).getDescription().toString());
+        assertNull(serializer.serialize("organization_events", null));
+    }
+}
@@ -1,11 +1,15 @@
 package com.orbsec.organizationservice.repository;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.orbsec.organizationservice.model.Organization;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -56,5 +60,31 @@ class OrganizationRepositoryTest {
         // Then
         assertThat(actualFindOrganizationsByIdResult.isPresent());
     }
-}
 
+    @Test
+    void itShouldStreamOrganizationsOrderedById() {
+        // Given
+        this.organizationRepository.save(new Organization("b", "Name", "Contact Name", "jane.doe@example.org", "4105551212"));
+        this.organizationRepository.save(new Organization("a", "Name", "Contact Name", "jane.doe@example.org", "4105551212"));
+
+        // When
+        List<String> ids;
+        try (Stream<Organization> organizations = this.organizationRepository.streamAllOrderedById()) {
+            ids = organizations.map(Organization::getId).collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(List.of("a", "b"), ids);
+    }
+
+    @Test
+    void itShouldDeleteByIdAndReportAffectedRows() {
+        // Given
+        this.organizationRepository.save(new Organization("a", "Name", "Contact Name", "jane.doe@example.org", "4105551212"));
+
+        // When / Then
+        assertEquals(1, this.organizationRepository.deleteOrganizationById("a"));
+        assertEquals(0, this.organizationRepository.deleteOrganizationById("a"));
+        assertTrue(this.organizationRepository.findById("a").isEmpty());
+    }
+}
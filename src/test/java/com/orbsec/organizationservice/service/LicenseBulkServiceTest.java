@@ -0,0 +1,99 @@
+package com.orbsec.organizationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.orbsec.organizationservice.cache.LicenseCache;
+import com.orbsec.organizationservice.exceptions.InvalidOrganizationRecord;
+import com.orbsec.organizationservice.exceptions.ServiceOverloadedException;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.model.LicenseDTO;
+import com.orbsec.organizationservice.model.LicenseLookupStatus;
+import com.orbsec.organizationservice.service.client.GuardedLicenseClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LicenseBulkServiceTest {
+
+    private final GuardedLicenseClient licenseClient = mock(GuardedLicenseClient.class);
+    private final OrganizationTaskExecutor taskExecutor = mock(OrganizationTaskExecutor.class);
+    private final LicenseCache licenseCache = new LicenseCache(100, 60, 0, 3600, new SimpleMeterRegistry());
+    private final LicenseBulkService licenseBulkService = new LicenseBulkService(licenseClient, licenseCache, taskExecutor, 2);
+
+    @BeforeEach
+    void setUp() {
+        when(this.taskExecutor.supplyAsync(any()))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync((Supplier<?>) invocation.getArgument(0), Runnable::run));
+    }
+
+    @Test
+    void itShouldDeduplicateIdsAndKeepRequestOrder() {
+        // Given
+        when(this.licenseClient.getAllLicensesForOrganization(any(), any())).thenReturn(List.of(new LicenseDTO()));
+
+        // When
+        var results = this.licenseBulkService.findLicensesForOrganizations("ABC123", List.of("b", "a", "b", " "));
+
+        // Then
+        assertEquals(List.of("b", "a"), new ArrayList<>(results.keySet()));
+        assertEquals(LicenseLookupStatus.FOUND, results.get("a").getStatus());
+        verify(this.licenseClient, times(1)).getAllLicensesForOrganization("ABC123", "b");
+    }
+
+    @Test
+    void itShouldReportFailuresPerOrganization() {
+        // Given
+        this.licenseCache.put("cached", "ABC123", List.of(new LicenseDTO()));
+        when(this.licenseClient.getAllLicensesForOrganization(any(), eq("ok"))).thenReturn(List.of(new LicenseDTO()));
+        when(this.licenseClient.getAllLicensesForOrganization(any(), eq("down"))).thenThrow(new IllegalStateException("licensing-service down"));
+
+        // When
+        var results = this.licenseBulkService.findLicensesForOrganizations("ABC123", List.of("ok", "down", "cached"));
+
+        // Then
+        assertEquals(LicenseLookupStatus.FOUND, results.get("ok").getStatus());
+        assertEquals(LicenseLookupStatus.UNAVAILABLE, results.get("down").getStatus());
+        assertEquals("licensing-service down", results.get("down").getMessage());
+        assertEquals(LicenseLookupStatus.FOUND, results.get("cached").getStatus());
+        verify(this.licenseClient, times(0)).getAllLicensesForOrganization(any(), eq("cached"));
+    }
+
+    @Test
+    void itShouldReportShedCallsAsUnavailable() {
+        // Given
+        when(this.licenseClient.getAllLicensesForOrganization(any(), any()))
+                .thenThrow(new ServiceOverloadedException("Service is overloaded (licensing-service), please retry later"));
+
+        // When
+        var results = this.licenseBulkService.findLicensesForOrganizations("ABC123", List.of("a"));
+
+        // Then
+        assertEquals(LicenseLookupStatus.UNAVAILABLE, results.get("a").getStatus());
+    }
+
+    @Test
+    void itShouldRejectOversizedLookups() {
+        // Given
+        var organizationIds = new ArrayList<String>();
+        for (int i = 0; i <= LicenseBulkService.MAX_BULK_IDS; i++) {
+            organizationIds.add("id-" + i);
+        }
+
+        // When / Then
+        assertThrows(InvalidOrganizationRecord.class,
+                () -> this.licenseBulkService.findLicensesForOrganizations("ABC123", organizationIds));
+    }
+}
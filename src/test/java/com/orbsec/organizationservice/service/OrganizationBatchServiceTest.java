@@ -0,0 +1,72 @@
+package com.orbsec.organizationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import com.orbsec.organizationservice.kafka.EventOutbox;
+import com.orbsec.organizationservice.model.BatchItemResult;
+import com.orbsec.organizationservice.model.BatchItemStatus;
+import com.orbsec.organizationservice.model.Organization;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.repository.OrganizationRepository;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.validation.Validation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class OrganizationBatchServiceTest {
+
+    private OrganizationRepository organizationRepository;
+    private EntityManager entityManager;
+    private EventOutbox eventOutbox;
+    private OrganizationBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        organizationRepository = mock(OrganizationRepository.class);
+        entityManager = mock(EntityManager.class);
+        eventOutbox = mock(EventOutbox.class);
+        batchService = new OrganizationBatchService(organizationRepository, entityManager, mock(PlatformTransactionManager.class),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventOutbox, mock(OrganizationCache.class),
+                mock(UnknownOrganizationFilter.class), 50);
+    }
+
+    @Test
+    void itShouldCreateValidItemsAndReportInvalidOnes() {
+        List<BatchItemResult> results = batchService.createAll(List.of(
+                new OrganizationDto(null, "Name", "Contact Name", "jane.doe@example.org", "4105551212"),
+                new OrganizationDto(null, null, "Contact Name", "not-an-email", "4105551212")));
+
+        assertEquals(BatchItemStatus.CREATED, results.get(0).getStatus());
+        assertNotNull(results.get(0).getId());
+        assertEquals(BatchItemStatus.INVALID, results.get(1).getStatus());
+        assertEquals("contactEmail: must be a well-formed email address, name: must not be null", results.get(1).getMessage());
+        verify(entityManager, times(1)).persist(any());
+        verify(eventOutbox, times(1)).append(any(), any(), any());
+    }
+
+    @Test
+    void itShouldUpdateExistingItemsAndReportMissingOnes() {
+        when(organizationRepository.findAllById(any()))
+                .thenReturn(List.of(new Organization("a", "Old Name", "Contact Name", "jane.doe@example.org", "4105551212")));
+
+        List<BatchItemResult> results = batchService.updateAll(List.of(
+                new OrganizationDto("a", "New Name", "Contact Name", "jane.doe@example.org", "4105551212"),
+                new OrganizationDto("b", "Name", "Contact Name", "jane.doe@example.org", "4105551212")));
+
+        assertEquals(BatchItemStatus.UPDATED, results.get(0).getStatus());
+        assertEquals(BatchItemStatus.NOT_FOUND, results.get(1).getStatus());
+        verify(eventOutbox, times(1)).append(any(), any(), any());
+    }
+}
@@ -0,0 +1,42 @@
+package com.orbsec.organizationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.model.OrganizationChange;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+class OrganizationChangeSequencerTest {
+
+    private final OrganizationChangeRepository repository = mock(OrganizationChangeRepository.class);
+    private final OrganizationChangeSequencer sequencer = new OrganizationChangeSequencer(repository, mock(PlatformTransactionManager.class), 100);
+
+    @Test
+    void itShouldContinueFromTheHighestCommittedSequence() {
+        // Given
+        var first = new OrganizationChange("a", ChangeType.CREATION);
+        var second = new OrganizationChange("b", ChangeType.UPDATE);
+        when(repository.findBySequenceIsNullOrderByIdAsc(any())).thenReturn(List.of(first, second));
+        when(repository.findLatestSequence()).thenReturn(41L);
+
+        // When
+        int sequenced = sequencer.sequenceBatch();
+
+        // Then
+        assertEquals(2, sequenced);
+        assertEquals(42L, first.getSequence());
+        assertEquals(43L, second.getSequence());
+    }
+
+    @Test
+    void itShouldLeaveAnEmptyLogAlone() {
+        assertEquals(0, sequencer.sequenceBatch());
+    }
+}
@@ -0,0 +1,104 @@
+package com.orbsec.organizationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.exceptions.ExpiredWatermarkException;
+import com.orbsec.organizationservice.model.OrganizationChange;
+import com.orbsec.organizationservice.model.OrganizationChangeDto;
+import com.orbsec.organizationservice.repository.OrganizationChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+class OrganizationChangeServiceTest {
+
+    private final OrganizationChangeRepository repository = mock(OrganizationChangeRepository.class);
+    private final OrganizationChangeService changeService = new OrganizationChangeService(repository, 30);
+
+    @Test
+    void itShouldReturnOneEntryPerOrganizationWithTombstones() {
+        // Given
+        when(repository.findBySequenceGreaterThanOrderBySequenceAsc(eq(10L), any())).thenReturn(List.of(
+                change(11, "a", ChangeType.CREATION),
+                change(12, "b", ChangeType.UPDATE),
+                change(13, "a", ChangeType.UPDATE),
+                change(14, "b", ChangeType.DELETION)));
+
+        // When
+        var page = changeService.findChangesSince(10, 100);
+
+        // Then
+        assertEquals(List.of(new OrganizationChangeDto("a", ChangeType.CREATION, 13),
+                new OrganizationChangeDto("b", ChangeType.DELETION, 14)), page.getChanges());
+        assertEquals(14, page.getWatermark());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void itShouldStopAtThePageSize() {
+        // Given
+        when(repository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any())).thenReturn(List.of(
+                change(1, "a", ChangeType.CREATION),
+                change(2, "b", ChangeType.CREATION),
+                change(3, "c", ChangeType.CREATION)));
+
+        // When
+        var page = changeService.findChangesSince(-5, 2);
+
+        // Then
+        assertEquals(2, page.getChanges().size());
+        assertEquals(2, page.getWatermark());
+        assertTrue(page.isHasMore());
+        var pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findBySequenceGreaterThanOrderBySequenceAsc(eq(0L), pageable.capture());
+        assertEquals(3, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void itShouldKeepTheWatermarkWhenNothingChanged() {
+        when(repository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any())).thenReturn(List.of());
+        assertEquals(7, changeService.findChangesSince(7, 100).getWatermark());
+    }
+
+    @Test
+    void itShouldRejectAWatermarkOlderThanTheRetainedLog() {
+        // Given
+        when(repository.findBySequenceGreaterThanOrderBySequenceAsc(eq(7L), any())).thenReturn(List.of(change(50, "a", ChangeType.UPDATE)));
+
+        // When
+        // Then
+        var exception = assertThrows(ExpiredWatermarkException.class, () -> changeService.findChangesSince(7, 100));
+        assertTrue(exception.getMessage().contains("continue from sequence 49"));
+    }
+
+    @Test
+    void itShouldPurgeChangesOlderThanTheRetentionPeriod() {
+        // When
+        changeService.purgeExpiredChanges();
+
+        // Then
+        var cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).deleteChangedBefore(cutoff.capture());
+        assertTrue(cutoff.getValue().isBefore(Instant.now().minus(Duration.ofDays(29))));
+    }
+
+    private static OrganizationChange change(long sequence, String organizationId, ChangeType changeType) {
+        var change = new OrganizationChange(organizationId, changeType);
+        change.setSequence(sequence);
+        return change;
+    }
+}
@@ -0,0 +1,77 @@
+package com.orbsec.organizationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.when;
+
+import com.orbsec.organizationservice.exceptions.MissingOrganizationException;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.model.LicenseDTO;
+import com.orbsec.organizationservice.model.OrganizationDto;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = {OrganizationDetailsService.class})
+@ExtendWith(SpringExtension.class)
+class OrganizationDetailsServiceTest {
+
+    @MockBean
+    private OrganizationService organizationService;
+
+    @MockBean
+    private OrganizationTaskExecutor taskExecutor;
+
+    @Autowired
+    private OrganizationDetailsService organizationDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        when(this.taskExecutor.supplyAsync(any()))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync((Supplier<?>) invocation.getArgument(0), Runnable::run));
+    }
+
+    @Test
+    void itShouldMergeOrganizationAndLicenses() throws Exception {
+        // Given
+        OrganizationDto organizationDto = new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        List<LicenseDTO> licenses = List.of(new LicenseDTO());
+        when(this.organizationService.findById("12342")).thenReturn(organizationDto);
+        when(this.organizationService.findAllLicensesForOrganizationAsync("ABC123", "12342"))
+                .thenReturn(CompletableFuture.completedFuture(licenses));
+
+        // When
+        var details = this.organizationDetailsService.findDetails("ABC123", "12342").get();
+
+        // Then
+        assertEquals(organizationDto, details.getOrganization());
+        assertSame(licenses, details.getLicenses());
+    }
+
+    @Test
+    void itShouldFailWhenOrganizationIsMissing() {
+        // Given
+        when(this.organizationService.findById("42")).thenThrow(new MissingOrganizationException("No organization found for the provided id"));
+        when(this.organizationService.findAllLicensesForOrganizationAsync("ABC123", "42"))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        // When
+        var exception = assertThrows(ExecutionException.class,
+                () -> this.organizationDetailsService.findDetails("ABC123", "42").get());
+
+        // Then
+        assertEquals(MissingOrganizationException.class, exception.getCause().getClass());
+    }
+}
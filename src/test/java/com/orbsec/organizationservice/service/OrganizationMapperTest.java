@@ -0,0 +1,38 @@
+package com.orbsec.organizationservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.orbsec.organizationservice.model.Organization;
+import com.orbsec.organizationservice.model.OrganizationDto;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+class OrganizationMapperTest {
+
+    @Test
+    void itShouldMapLikeStrictModelMapper() {
+        // Given
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        Organization organization = new Organization("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        OrganizationDto organizationDto = new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", null);
+
+        // When / Then
+        assertEquals(modelMapper.map(organization, OrganizationDto.class), OrganizationMapper.toDto(organization));
+        Organization expected = modelMapper.map(organizationDto, Organization.class);
+        Organization actual = OrganizationMapper.toEntity(organizationDto);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getContactName(), actual.getContactName());
+        assertEquals(expected.getContactEmail(), actual.getContactEmail());
+        assertEquals(expected.getContactPhone(), actual.getContactPhone());
+    }
+
+    @Test
+    void itShouldRejectNullSource() {
+        assertThrows(IllegalArgumentException.class, () -> OrganizationMapper.toDto(null));
+        assertThrows(IllegalArgumentException.class, () -> OrganizationMapper.toEntity(null));
+    }
+}
@@ -6,27 +6,44 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.orbsec.organizationservice.avro.ChangeType;
+import com.orbsec.organizationservice.cache.LicenseCache;
+import com.orbsec.organizationservice.cache.OrganizationCache;
+import com.orbsec.organizationservice.cache.UnknownOrganizationFilter;
+import com.orbsec.organizationservice.exceptions.InvalidContinuationToken;
 import com.orbsec.organizationservice.exceptions.MissingOrganizationException;
+import com.orbsec.organizationservice.exceptions.StaleOrganizationException;
 import com.orbsec.organizationservice.exceptions.UnauthorizedException;
-import com.orbsec.organizationservice.kafka.EventProducer;
+import com.orbsec.organizationservice.execution.OrganizationTaskExecutor;
+import com.orbsec.organizationservice.execution.RequestCoalescer;
+import com.orbsec.organizationservice.kafka.EventOutbox;
 import com.orbsec.organizationservice.model.LicenseDTO;
 import com.orbsec.organizationservice.model.Organization;
 import com.orbsec.organizationservice.model.OrganizationDto;
+import com.orbsec.organizationservice.model.OrganizationPage;
 import com.orbsec.organizationservice.repository.OrganizationRepository;
+import com.orbsec.organizationservice.service.client.AsyncLicenseClient;
+import com.orbsec.organizationservice.service.client.GuardedLicenseClient;
 import com.orbsec.organizationservice.service.client.LicenseFeignClient;
 import feign.FeignException;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,18 +54,36 @@ import org.springframework.context.annotation.Description;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-@ContextConfiguration(classes = {OrganizationService.class})
+@ContextConfiguration(classes = {OrganizationService.class, RequestCoalescer.class, SimpleMeterRegistry.class})
 @ExtendWith(SpringExtension.class)
 class OrganizationServiceTest {
     @MockBean
-    private EventProducer eventProducer;
+    private EventOutbox eventOutbox;
 
     @MockBean
     private LicenseFeignClient licenseFeignClient;
 
+    @MockBean
+    private AsyncLicenseClient asyncLicenseClient;
+
+    @MockBean
+    private GuardedLicenseClient guardedLicenseClient;
+
     @MockBean
     private OrganizationRepository organizationRepository;
 
+    @MockBean
+    private OrganizationCache organizationCache;
+
+    @MockBean
+    private LicenseCache licenseCache;
+
+    @MockBean
+    private OrganizationTaskExecutor taskExecutor;
+
+    @MockBean
+    private UnknownOrganizationFilter unknownOrganizationFilter;
+
     @Autowired
     private OrganizationService organizationService;
 
@@ -74,6 +109,17 @@ class OrganizationServiceTest {
         verify(this.organizationRepository).findById(any());
     }
 
+    @Test
+    @DisplayName("It should serve cached Organization without a database call")
+    void itShouldFindCachedById() throws MissingOrganizationException {
+        when(this.organizationCache.get("12342"))
+                .thenReturn(new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212"));
+
+        OrganizationDto actualFindByIdResult = this.organizationService.findById("12342");
+        assertEquals("Name", actualFindByIdResult.getName());
+        verify(this.organizationRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("It should throw MissingOrganizationException")
     void itShouldThrowMissingOrgException() throws MissingOrganizationException {
@@ -82,6 +128,13 @@ class OrganizationServiceTest {
         verify(this.organizationRepository).findById(any());
     }
 
+    @Test
+    void itShouldReturnEmptyForUnknownOrganization() {
+        when(this.organizationRepository.findById(any())).thenReturn(Optional.empty());
+        assertTrue(this.organizationService.findOrganization("12342").isEmpty());
+        verify(this.organizationRepository).findById(any());
+    }
+
     @Test
     @DisplayName("It should create new Organization record")
     void itShouldCreate() {
@@ -93,8 +146,8 @@ class OrganizationServiceTest {
         organization.setName("Name");
 
         when(this.organizationRepository.save(any())).thenReturn(organization);
-        doNothing().when(this.eventProducer)
-                .publishNewEvent(any(), any(), any());
+        doNothing().when(this.eventOutbox)
+                .append(any(), any(), any());
 
         OrganizationDto actualCreatedResult = this.organizationService
                 .create(new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212"));
@@ -104,72 +157,84 @@ class OrganizationServiceTest {
         assertEquals("4105551212", actualCreatedResult.getContactPhone());
         assertEquals("Contact Name", actualCreatedResult.getContactName());
         verify(this.organizationRepository).save(any());
-        verify(this.eventProducer).publishNewEvent(any(),
+        verify(this.eventOutbox).append(any(),
                 any(), any());
     }
 
 
     @Test
     void itShouldUpdate() {
-        Organization organization = new Organization();
-        organization.setContactEmail("jane.doe@example.org");
-        organization.setContactName("Contact Name");
-        organization.setContactPhone("4105551212");
-        organization.setId("12342");
-        organization.setName("Name");
-        Optional<Organization> optionalResult = Optional.of(organization);
-
-        Organization organization1 = new Organization();
-        organization1.setContactEmail("jane.doe@example.org");
-        organization1.setContactName("Contact Name");
-        organization1.setContactPhone("4105551212");
-        organization1.setId("12342");
-        organization1.setName("Name");
-
-        when(this.organizationRepository.save(any())).thenReturn(organization1);
-        when(this.organizationRepository.findById(any())).thenReturn(optionalResult);
-        doNothing().when(this.eventProducer).publishNewEvent(any(), any(), any());
+        when(this.organizationRepository.updateById(eq("12342"), eq("Name"), eq("Contact Name"), eq("jane.doe@example.org"),
+                eq("4105551212"), any())).thenReturn(1);
+        var view = mock(OrganizationRepository.VersionView.class);
+        when(view.getVersion()).thenReturn(8L);
+        when(this.organizationRepository.findVersionById("12342")).thenReturn(Optional.of(view));
+        doNothing().when(this.eventOutbox).append(any(), any(), any());
 
         OrganizationDto actualUpdateResult = this.organizationService.update("12342",
-                new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212"));
+                new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212"), null);
 
         assertEquals("jane.doe@example.org", actualUpdateResult.getContactEmail());
         assertEquals("Name", actualUpdateResult.getName());
         assertEquals("12342", actualUpdateResult.getId());
         assertEquals("4105551212", actualUpdateResult.getContactPhone());
         assertEquals("Contact Name", actualUpdateResult.getContactName());
+        assertEquals(8L, actualUpdateResult.getVersion());
 
-        verify(this.organizationRepository).save(any());
-        verify(this.organizationRepository).findById(any());
-        verify(this.eventProducer).publishNewEvent(any(), any(), any());
+        verify(this.organizationRepository, never()).findById(any());
+        verify(this.organizationRepository, never()).save(any());
+        verify(this.organizationCache).evict("12342");
+        verify(this.eventOutbox).append(any(), any(), any());
     }
 
+    @Test
+    void itShouldUpdateOnlyTheExpectedVersion() {
+        when(this.organizationRepository.updateByIdAndVersion(eq("12342"), eq(3L), any(), any(), any(), any(), any())).thenReturn(1);
+
+        var updated = this.organizationService.update("12342",
+                new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212"), 3L);
+
+        assertEquals(4L, updated.getVersion());
+    }
 
     @Test
-    void itShouldDelete() throws MissingOrganizationException {
-        Organization organization = new Organization();
-        organization.setContactEmail("jane.doe@example.org");
-        organization.setContactName("Contact Name");
-        organization.setContactPhone("4105551212");
-        organization.setId("12342");
-        organization.setName("Name");
-        Optional<Organization> optionalResult = Optional.of(organization);
+    void itShouldRejectUpdateOfStaleVersion() {
+        when(this.organizationRepository.updateByIdAndVersion(any(), eq(3L), any(), any(), any(), any(), any())).thenReturn(0);
+        when(this.organizationRepository.existsById("12342")).thenReturn(true);
+        var updateDto = new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+
+        assertThrows(StaleOrganizationException.class, () -> this.organizationService.update("12342", updateDto, 3L));
+        verify(this.eventOutbox, never()).append(any(), any(), any());
+    }
+
+    @Test
+    void itShouldNotUpdateMissingOrganization() {
+        when(this.organizationRepository.updateById(any(), any(), any(), any(), any(), any())).thenReturn(0);
+        var updateDto = new OrganizationDto("12342", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
 
-        doNothing().when(this.organizationRepository).delete(any());
-        when(this.organizationRepository.findById(any())).thenReturn(optionalResult);
-        doNothing().when(this.eventProducer).publishNewEvent(any(), any(), any());
+        assertThrows(MissingOrganizationException.class, () -> this.organizationService.update("12342", updateDto, null));
+        verify(this.eventOutbox, never()).append(any(), any(), any());
+    }
+
+
+    @Test
+    void itShouldDelete() throws MissingOrganizationException {
+        when(this.organizationRepository.deleteOrganizationById("12342")).thenReturn(1);
+        doNothing().when(this.eventOutbox).append(any(), any(), any());
 
         assertEquals("Organization with id 12342 has been deleted", this.organizationService.delete("12342"));
-        verify(this.organizationRepository).findById(any());
-        verify(this.organizationRepository).delete(any());
-        verify(this.eventProducer).publishNewEvent(any(), any(), any());
+        verify(this.organizationRepository, never()).findById(any());
+        verify(this.organizationRepository).deleteOrganizationById("12342");
+        verify(this.organizationCache).evict("12342");
+        verify(this.licenseCache).evict("12342");
+        verify(this.eventOutbox).append(eq("12342"), eq(ChangeType.DELETION), any());
     }
 
     @Test
     void itShouldNotDelete() throws MissingOrganizationException {
-        when(this.organizationRepository.findById(any())).thenThrow(new MissingOrganizationException("No organization found for this id"));
-        doNothing().when(this.eventProducer).publishNewEvent(any(), any(), any());
+        when(this.organizationRepository.deleteOrganizationById(any())).thenReturn(0);
         assertThrows(MissingOrganizationException.class, () -> this.organizationService.delete("0000000"));
+        verify(this.eventOutbox, never()).append(any(), any(), any());
     }
 
 
@@ -183,6 +248,29 @@ class OrganizationServiceTest {
         verify(iterable).forEach(any());
     }
 
+    @Test
+    void itShouldFindPageWithContinuationToken() {
+        Organization first = new Organization("a", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        Organization second = new Organization("b", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        Organization third = new Organization("c", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        when(this.organizationRepository.findAllByOrderByIdAsc(any())).thenReturn(List.of(first, second, third));
+        when(this.organizationRepository.findByIdGreaterThanOrderByIdAsc(any(), any())).thenReturn(List.of(third));
+
+        OrganizationPage firstPage = this.organizationService.findPage(null, 2);
+        assertEquals(2, firstPage.getOrganizations().size());
+        assertEquals("b", firstPage.getOrganizations().get(1).getId());
+
+        OrganizationPage lastPage = this.organizationService.findPage(firstPage.getNext(), 2);
+        assertEquals(1, lastPage.getOrganizations().size());
+        assertNull(lastPage.getNext());
+        verify(this.organizationRepository).findByIdGreaterThanOrderByIdAsc(eq("b"), any());
+    }
+
+    @Test
+    void itShouldRejectMalformedContinuationToken() {
+        assertThrows(InvalidContinuationToken.class, () -> this.organizationService.findPage("not a token!", 10));
+    }
+
     @Test
     void itShouldFindAllLicensesForOrganization() throws UnauthorizedException {
         ArrayList<LicenseDTO> licenseDTOList = new ArrayList<>();
@@ -202,5 +290,82 @@ class OrganizationServiceTest {
                 () -> this.organizationService.findAllLicensesForOrganization("ABC123", "42"));
         verify(this.licenseFeignClient).getAllLicensesForOrganization(any(), any());
     }
-}
 
+    @Test
+    void itShouldServeStaleLicensesAndRevalidateInBackground() throws UnauthorizedException {
+        LicenseCache cache = new LicenseCache(100, 0, 300, 3600, new SimpleMeterRegistry());
+        List<LicenseDTO> staleList = List.of(new LicenseDTO());
+        List<LicenseDTO> freshList = List.of(new LicenseDTO(), new LicenseDTO());
+        cache.put("12342", "ABC123", staleList);
+        when(this.licenseCache.get(any(), any())).thenAnswer(invocation -> cache.get(invocation.getArgument(0), invocation.getArgument(1)));
+        when(this.licenseCache.stateOf(any())).thenAnswer(invocation -> cache.stateOf(invocation.getArgument(0)));
+        when(this.licenseCache.beginRefresh(any(), any())).thenReturn(true);
+        when(this.guardedLicenseClient.getAllLicensesForOrganization("ABC123", "12342")).thenReturn(freshList);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(this.taskExecutor).execute(any());
+
+        List<LicenseDTO> actual = this.organizationService.findAllLicensesForOrganization("ABC123", "12342");
+
+        assertEquals(staleList, actual);
+        // Revalidation goes through the circuit breaker and concurrency limit, never straight to Feign
+        verify(this.licenseCache).put("12342", "ABC123", freshList);
+        verify(this.licenseCache).endRefresh("12342", "ABC123");
+        verify(this.licenseFeignClient, never()).getAllLicensesForOrganization(any(), any());
+    }
+
+    @Test
+    void itShouldNotServeCachedLicensesToAnotherCaller() throws UnauthorizedException {
+        LicenseCache cache = new LicenseCache(100, 60, 300, 3600, new SimpleMeterRegistry());
+        cache.put("12342", "ABC123", List.of(new LicenseDTO()));
+        when(this.licenseCache.get(any(), any())).thenAnswer(invocation -> cache.get(invocation.getArgument(0), invocation.getArgument(1)));
+        when(this.licenseFeignClient.getAllLicensesForOrganization(any(), any()))
+                .thenThrow(new UnauthorizedException("Unauthorized"));
+
+        assertThrows(UnauthorizedException.class, () -> this.organizationService.findAllLicensesForOrganization(null, "12342"));
+        verify(this.licenseFeignClient).getAllLicensesForOrganization(null, "12342");
+    }
+
+    @Test
+    void itShouldCacheLicensesFetchedAsynchronously() throws Exception {
+        List<LicenseDTO> licenseDTOList = List.of(new LicenseDTO());
+        when(this.asyncLicenseClient.getAllLicensesForOrganization(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(licenseDTOList));
+
+        List<LicenseDTO> actual = this.organizationService.findAllLicensesForOrganizationAsync("ABC123", "12342").get();
+
+        assertSame(licenseDTOList, actual);
+        verify(this.licenseCache).put("12342", "ABC123", licenseDTOList);
+        verify(this.licenseFeignClient, never()).getAllLicensesForOrganization(any(), any());
+    }
+
+    @Test
+    void itShouldSkipTheDatabaseForKnownAbsentIds() {
+        when(this.unknownOrganizationFilter.isKnownAbsent("missing")).thenReturn(true);
+        assertTrue(this.organizationService.findOrganization("missing").isEmpty());
+        verify(this.organizationRepository, never()).findById(any());
+    }
+
+    @Test
+    void itShouldAnswerVersionFromTheCache() {
+        var cached = new OrganizationDto("42", "Name", "Contact Name", "jane.doe@example.org", "4105551212");
+        cached.setVersion(4L);
+        when(this.organizationCache.get("42")).thenReturn(cached);
+        assertEquals("4", this.organizationService.findVersion("42").orElseThrow().getETag());
+        verify(this.organizationRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    void itShouldAnswerVersionWithoutLoadingTheEntity() {
+        var lastModified = Instant.parse("2021-12-01T10:15:30Z");
+        var view = mock(OrganizationRepository.VersionView.class);
+        when(view.getVersion()).thenReturn(7L);
+        when(view.getLastModified()).thenReturn(lastModified);
+        when(this.organizationRepository.findVersionById("42")).thenReturn(Optional.of(view));
+        var version = this.organizationService.findVersion("42").orElseThrow();
+        assertEquals("7", version.getETag());
+        assertEquals(lastModified, version.getLastModified());
+        verify(this.organizationRepository, never()).findById(any());
+    }
+}